@@ -0,0 +1,233 @@
+package cli;
+
+import assembler.CodeGenerator;
+import assembler.ProgramAnalyzer;
+import assembler.ListingWriter;
+import assembler.MappedSource;
+import simulator.CoverageRecorder;
+import simulator.CoverageReport;
+import simulator.DifferentialFuzzer;
+import simulator.GdbServer;
+import simulator.InputRecorder;
+import simulator.InputReplay;
+import simulator.RunResult;
+import simulator.SimulatorController;
+import simulator.SimulatorMetrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// JavaFX olmadan çalışan komut satırı girişi
+public class Main {
+
+    private static final String USAGE = String.join("\n",
+            "Kullanım:",
+            "  assemble <kaynak.asm> [-o imaj.bin] [-l liste.lst]",
+            "  run <kaynak.asm> [komut sınırı] [-c kapsam.cov]",
+            "  coverage <kaynak.asm> <rapor.info | rapor.xml> <kapsam.cov>...",
+            "  analyze <kaynak.asm>",
+            "  record <kaynak.asm> <günlük> [komut sınırı] [kontrol noktası aralığı]",
+            "  replay <kaynak.asm> <günlük> [kontrol noktası no]",
+            "  gdb <kaynak.asm> [port | unix:/soket/yolu]",
+            "  fuzz [saniye] [iş parçacığı] [tohum]");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        String[] rest = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "assemble" -> assemble(rest);
+            case "run" -> run(rest);
+            case "coverage" -> coverage(rest);
+            case "analyze" -> analyze(rest);
+            case "record" -> record(rest);
+            case "replay" -> replay(rest);
+            case "gdb" -> gdb(rest);
+            case "fuzz" -> DifferentialFuzzer.main(rest);
+            default -> {
+                System.out.println(USAGE);
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void assemble(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        MappedSource source = MappedSource.open(Path.of(args[0]));
+        CodeGenerator generator = translate(source);
+
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            Path target = Path.of(args[i + 1]);
+            switch (args[i]) {
+                case "-o" -> generator.buildObjectImage().writeTo(target);
+                case "-l" -> new ListingWriter(source, generator.getOutputLines(), generator.getSourceMap()).write(target);
+                default -> System.out.println("Bilinmeyen seçenek: " + args[i]);
+            }
+        }
+
+        int errors = reportErrors(generator.getOutputLines());
+        System.out.println(generator.getLayoutReport());
+        if (errors > 0) System.exit(1);
+    }
+
+    private static void run(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        long limit = 1_000_000L;
+        Path coverageFile = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("-c") && i + 1 < args.length) {
+                coverageFile = Path.of(args[++i]);
+            } else {
+                limit = Long.parseLong(args[i]);
+            }
+        }
+
+        SimulatorController simulator = load(args[0]);
+        if (coverageFile != null) simulator.setCoverage(new CoverageRecorder());
+        RunResult result = simulator.run(limit, pc -> false);
+
+        System.out.println(result);
+        System.out.println(String.format("A: %02X | B: %02X | X: %04X | PC: %04X",
+                simulator.getA(), simulator.getB(), simulator.getX(), simulator.getPC()));
+        if (coverageFile != null) simulator.getCoverage().writeTo(coverageFile);
+    }
+
+    // Ayrı "run -c" çalıştırmalarının ham kapsam dosyalarını birleştirip LCOV (.info) ya da Cobertura (.xml) yazar
+    private static void coverage(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        CodeGenerator generator = translate(MappedSource.open(Path.of(args[0])));
+        if (reportErrors(generator.getOutputLines()) > 0) System.exit(1);
+
+        CoverageRecorder merged = new CoverageRecorder();
+        for (int i = 2; i < args.length; i++) {
+            merged.merge(CoverageRecorder.readFrom(Path.of(args[i])));
+        }
+
+        CoverageReport report = new CoverageReport(merged, generator.getSourceMap(), generator.getOutputLines());
+        Path target = Path.of(args[1]);
+        String sourceName = Path.of(args[0]).getFileName().toString();
+        try (Writer out = Files.newBufferedWriter(target)) {
+            if (target.getFileName().toString().toLowerCase().endsWith(".xml")) {
+                report.writeCobertura(out, sourceName);
+            } else {
+                report.writeLcov(out, sourceName);
+            }
+        }
+        System.out.println("Kapsam raporu: " + target + " (" + (args.length - 2) + " çalıştırma birleştirildi)");
+    }
+
+    // Programı çalıştırmadan yığın derinliği, çevrim sınırları, döngüler ve erişilemeyen kod
+    private static void analyze(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        CodeGenerator generator = translate(MappedSource.open(Path.of(args[0])));
+        if (reportErrors(generator.getOutputLines()) > 0) System.exit(1);
+        System.out.println(ProgramAnalyzer.analyze(generator.buildObjectImage(), generator.getSourceMap()));
+    }
+
+    private static void record(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        long limit = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000L;
+        long interval = args.length > 3 ? Long.parseLong(args[3]) : 100_000L;
+        SimulatorController simulator = load(args[0]);
+
+        simulator.startRecording(InputRecorder.open(Path.of(args[1]), interval));
+        RunResult result = simulator.run(limit, pc -> false);
+        simulator.stopRecording();
+        System.out.println(result);
+    }
+
+    private static void replay(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        SimulatorController simulator = load(args[0]);
+        InputReplay replay = InputReplay.open(Path.of(args[1]));
+        int checkpoint = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        if (checkpoint < 0 || checkpoint >= replay.getCheckpointCount()) {
+            System.err.println("Kontrol noktası yok: " + checkpoint + " (günlükte 0-"
+                    + (replay.getCheckpointCount() - 1) + " arası)");
+            System.exit(2);
+        }
+
+        simulator.startReplay(replay, checkpoint);
+        RunResult result = simulator.run(replay.getEndInstruction() - simulator.getRetiredInstructions(), pc -> false);
+        simulator.stopReplay();
+        System.out.println(result);
+        System.out.println("Yeniden oynatma kayıtla aynı: " + replay.getCheckpointCount() + " kontrol noktası, "
+                + replay.getEndInstruction() + " komut");
+    }
+
+    private static void gdb(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        SimulatorController simulator = load(args[0]);
+        SimulatorMetrics.register(simulator);
+
+        String endpoint = args.length > 1 ? args[1] : "1234";
+        try (GdbServer server = endpoint.startsWith("unix:")
+                ? GdbServer.unix(simulator, Path.of(endpoint.substring(5)))
+                : GdbServer.tcp(simulator, Integer.parseInt(endpoint))) {
+            System.out.println("GDB sunucusu dinliyor: " + endpoint);
+            server.serve();
+        }
+    }
+
+    private static SimulatorController load(String sourcePath) throws IOException {
+        CodeGenerator generator = translate(MappedSource.open(Path.of(sourcePath)));
+        if (reportErrors(generator.getOutputLines()) > 0) System.exit(1);
+
+        SimulatorController simulator = new SimulatorController();
+        simulator.load(String.join("\n", generator.getOutputLines()), generator.getSourceMap());
+        return simulator;
+    }
+
+    private static CodeGenerator translate(List<String> source) {
+        CodeGenerator generator = new CodeGenerator(source);
+        generator.firstPass();
+        generator.secondPass();
+        return generator;
+    }
+
+    private static int reportErrors(List<String> outputLines) {
+        int errors = 0;
+        for (int i = 0; i < outputLines.size(); i++) {
+            if (outputLines.get(i).startsWith("HATA")) {
+                System.err.println((i + 1) + ": " + outputLines.get(i));
+                errors++;
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,6 @@
+// Başsız komut satırı araçları
+// -Xlint:module, "m6800" adındaki sondaki rakamlar için uyarır; ad bilerek korunuyor
+@SuppressWarnings("module")
+module m6800.cli {
+    requires m6800.core;
+}
@@ -0,0 +1,132 @@
+package assembler;
+
+import java.util.List;
+
+// ProgramAnalyzer sonucu. Çevrim ve yığın değerleri en kötü durum üst sınırıdır;
+// döngü ya da özyineleme yüzünden sınır konamıyorsa UNBOUNDED olur.
+public class AnalysisReport {
+
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    // Giriş noktası ya da JSR/BSR hedefi
+    public static class Routine {
+        public final int address;
+        public final int line;
+        public final long stackBytes;
+        public final long cycles;
+        // İlk döngüye, sınırsız çağrıya, dönüşe ya da program sonuna kadar en kötü çevrim
+        public final long loopFreeCycles;
+
+        public Routine(int address, int line, long stackBytes, long cycles, long loopFreeCycles) {
+            this.address = address;
+            this.line = line;
+            this.stackBytes = stackBytes;
+            this.cycles = cycles;
+            this.loopFreeCycles = loopFreeCycles;
+        }
+    }
+
+    // Güçlü bağlı bileşen olarak bulunan döngü; bileşen bir çağrı kenarı içeriyorsa özyinelemedir
+    public static class Loop {
+        public final int startAddress;
+        public final int endAddress;
+        public final int line;
+        public final int instructions;
+        // Tekrar etmeyen bir tur her komuttan en fazla bir kez geçer; çağrılan altyordamlar dahildir
+        public final long iterationCycles;
+        // Döngüden çıktıktan sonraki döngüsüz bölgenin en kötü çevrimi
+        public final long exitCycles;
+        public final boolean hasExit;
+        public final boolean recursive;
+
+        public Loop(int startAddress, int endAddress, int line, int instructions,
+                    long iterationCycles, long exitCycles, boolean hasExit, boolean recursive) {
+            this.startAddress = startAddress;
+            this.endAddress = endAddress;
+            this.line = line;
+            this.instructions = instructions;
+            this.iterationCycles = iterationCycles;
+            this.exitCycles = exitCycles;
+            this.hasExit = hasExit;
+            this.recursive = recursive;
+        }
+    }
+
+    // Girişten hiçbir yolla ulaşılamayan ardışık komutlar; endAddress dahildir
+    public static class Range {
+        public final int startAddress;
+        public final int endAddress;
+        public final int firstLine;
+        public final int lastLine;
+
+        public Range(int startAddress, int endAddress, int firstLine, int lastLine) {
+            this.startAddress = startAddress;
+            this.endAddress = endAddress;
+            this.firstLine = firstLine;
+            this.lastLine = lastLine;
+        }
+    }
+
+    public final int instructions;
+    public final long stackBytes;
+    public final long cycles;
+    public final List<Routine> routines;
+    public final List<Loop> loops;
+    public final List<Range> unreachable;
+    public final List<String> warnings;
+
+    public AnalysisReport(int instructions, long stackBytes, long cycles, List<Routine> routines,
+                          List<Loop> loops, List<Range> unreachable, List<String> warnings) {
+        this.instructions = instructions;
+        this.stackBytes = stackBytes;
+        this.cycles = cycles;
+        this.routines = routines;
+        this.loops = loops;
+        this.unreachable = unreachable;
+        this.warnings = warnings;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("Analiz: ").append(instructions).append(" komut | Yığın: ").append(bytes(stackBytes))
+                .append(" | En kötü çevrim: ").append(bound(cycles));
+
+        for (Routine routine : routines) {
+            text.append(String.format("%nAltyordam $%04X (satır %d): yığın %s | çevrim %s",
+                    routine.address, routine.line + 1, bytes(routine.stackBytes), bound(routine.cycles)));
+            if (routine.cycles == UNBOUNDED) {
+                text.append(" | döngüsüz giriş ").append(bound(routine.loopFreeCycles));
+            }
+        }
+
+        for (Loop loop : loops) {
+            text.append(String.format("%n%s $%04X-$%04X (satır %d): %d komut | tur %s",
+                    loop.recursive ? "Özyineleme" : "Döngü", loop.startAddress, loop.endAddress,
+                    loop.line + 1, loop.instructions, bound(loop.iterationCycles)));
+            if (loop.hasExit) {
+                text.append(" | çıkış sonrası ").append(bound(loop.exitCycles));
+            } else {
+                text.append(" | çıkışsız");
+            }
+        }
+
+        for (Range range : unreachable) {
+            text.append(String.format("%nErişilemeyen kod $%04X-$%04X (satır %s)", range.startAddress, range.endAddress,
+                    range.firstLine == range.lastLine ? range.firstLine + 1 : (range.firstLine + 1) + "-" + (range.lastLine + 1)));
+        }
+
+        for (String warning : warnings) {
+            text.append(System.lineSeparator()).append("UYARI: ").append(warning);
+        }
+        return text.toString();
+    }
+
+    private static String bound(long cycles) {
+        return cycles == UNBOUNDED ? "sınırsız" : "≤ " + cycles;
+    }
+
+    private static String bytes(long stackBytes) {
+        return stackBytes == UNBOUNDED ? "sınırsız (özyineleme)" : stackBytes + " bayt";
+    }
+}
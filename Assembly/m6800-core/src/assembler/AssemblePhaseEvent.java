@@ -0,0 +1,34 @@
+package assembler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Çevirici aşamaları için paket içi JFR olayı; kayıt kapalıyken begin/commit çağrıları JIT tarafından boşa indirgenir
+@Name("m6800.AssemblePhase")
+@Label("Çevirme Aşaması")
+@Category({"M6800", "Çevirici"})
+@Description("Sözcük çözümleme, yerleşim (1. geçiş), kodlama (2. geçiş), çıktı üretimi ve durağan analiz süreleri")
+class AssemblePhaseEvent extends Event {
+
+    public static final String LEX = "lex";
+    public static final String PASS1 = "pass1";
+    public static final String PASS2 = "pass2";
+    public static final String EMIT = "emit";
+    public static final String ANALYZE = "analyze";
+
+    @Label("Aşama")
+    public String phase;
+
+    @Label("Satır Sayısı")
+    public int lines;
+
+    @Label("Yerleşim Turu")
+    public int iterations;
+
+    public AssemblePhaseEvent(String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,376 @@
+package assembler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CodeGenerator {
+
+    private final List<String> sourceLines;
+    private final List<String> outputLines = new ArrayList<>();
+    private final Map<String, Integer> labelAddressMap = new HashMap<>();
+    private final List<SourceLine> parsedLines = new ArrayList<>();
+    private int origin = 0x0000;
+    private LayoutReport layoutReport = new LayoutReport(0, 0, 0, 0, 0);
+    private SourceMap sourceMap = SourceMap.build(0, new int[0], new int[0], new int[0], new int[0]);
+    private ObjectImage objectImage;
+
+    // Bir kaynak satırının çözümlenmiş hali ve yerleşim kararı
+    private static class SourceLine {
+        String label;
+        String mnemonic;
+        String operand;
+        int orgAddress = -1;
+        String error;
+        InstructionSet.Instruction instr;
+        boolean relaxed;
+        boolean extended;
+        int address;
+    }
+
+    public CodeGenerator(List<String> sourceLines) {
+        this.sourceLines = sourceLines;
+    }
+
+    public void setOrigin(int origin) {
+        this.origin = origin;
+    }
+
+    public int getOrigin() {
+        return origin;
+    }
+
+    public void firstPass() {
+        int startAddress = origin;
+        AssemblePhaseEvent lex = new AssemblePhaseEvent(AssemblePhaseEvent.LEX);
+        lex.begin();
+
+        for (String line : sourceLines) {
+            SourceLine parsed = new SourceLine();
+            parsedLines.add(parsed);
+            outputLines.add("");
+
+            String trimmed = line.trim();
+            if (trimmed.isEmpty()) continue;
+
+            if (trimmed.toUpperCase().startsWith("ORG")) {
+                try {
+                    origin = parseOperand(trimmed.split("\\s+")[1]);
+                    parsed.orgAddress = origin;
+                } catch (Exception e) {
+                    parsed.error = "HATA: ORG çözümlenemedi";
+                }
+                continue;
+            }
+
+            if (trimmed.equalsIgnoreCase("END") || trimmed.equalsIgnoreCase(".END")) continue;
+
+            String[] parts = trimmed.split("\\s+", 3);
+            String mnemonic = parts[0].toUpperCase();
+            String operand = parts.length > 1 ? parts[1].trim() : null;
+
+            if (!InstructionSet.isMnemonic(mnemonic)) {
+                parsed.label = mnemonic;
+                if (parts.length < 2) continue;
+                mnemonic = parts[1].toUpperCase();
+                operand = parts.length > 2 ? parts[2].trim() : null;
+            }
+
+            if (mnemonic.equals("END") || mnemonic.equals(".END")) continue;
+
+            parsed.mnemonic = mnemonic;
+            parsed.operand = operand;
+        }
+
+        lex.lines = parsedLines.size();
+        lex.commit();
+
+        AssemblePhaseEvent layout = new AssemblePhaseEvent(AssemblePhaseEvent.PASS1);
+        layout.begin();
+        optimizeLayout(startAddress);
+        layout.lines = parsedLines.size();
+        layout.iterations = layoutReport.iterations;
+        layout.commit();
+    }
+
+    // Adresleme kipleri ve dal biçimleri sabit noktaya ulaşana kadar yeniden seçilir.
+    // İlk turda en kısa biçimler varsayılır; satırlar yalnızca büyüyebildiği için
+    // (DIR → EXT, kısa dal → ters dal + JMP) döngü her zaman sonlanır.
+    private void optimizeLayout(int startAddress) {
+        int iterations = 0;
+        boolean changed = true;
+
+        while (changed) {
+            iterations++;
+            assignAddresses(startAddress);
+            changed = false;
+            for (SourceLine line : parsedLines) {
+                if (line.mnemonic != null && selectForm(line)) {
+                    changed = true;
+                }
+            }
+        }
+        assignAddresses(startAddress);
+
+        int promotions = 0, relaxed = 0, bytesSaved = 0, cyclesSaved = 0;
+        for (SourceLine line : parsedLines) {
+            if (line.relaxed) relaxed++;
+            if (line.instr == null || !line.instr.mode.equals("DIR")) continue;
+            if (InstructionSet.determineModeKey(line.operand).equals("DIR")) continue;
+            if (tryResolveAddress(line.operand) == null) continue;
+
+            InstructionSet.Instruction ext = InstructionSet.getInstructionForMode(line.mnemonic, "EXT");
+            if (ext == null) continue;
+            promotions++;
+            bytesSaved += ext.length - line.instr.length;
+            cyclesSaved += ext.cycles - line.instr.cycles;
+        }
+        layoutReport = new LayoutReport(iterations, promotions, relaxed, bytesSaved, cyclesSaved);
+    }
+
+    private void assignAddresses(int startAddress) {
+        labelAddressMap.clear();
+        int currentAddress = startAddress;
+
+        for (SourceLine line : parsedLines) {
+            if (line.orgAddress >= 0) currentAddress = line.orgAddress;
+            line.address = currentAddress;
+            if (line.label != null) labelAddressMap.put(line.label, currentAddress);
+            if (line.mnemonic != null) currentAddress += lengthOf(line);
+        }
+    }
+
+    // Satırın biçimi değiştiyse true döner
+    private boolean selectForm(SourceLine line) {
+        InstructionSet.Instruction previous = line.instr;
+        boolean wasRelaxed = line.relaxed;
+        String modeKey = InstructionSet.determineModeKey(line.operand);
+
+        switch (modeKey) {
+            case "INH", "IMM", "IMM16", "IDX" -> line.instr = InstructionSet.getInstruction(line.mnemonic, line.operand);
+            default -> {
+                Integer target = tryResolveAddress(line.operand);
+
+                if (InstructionSet.isBranch(line.mnemonic)) {
+                    line.instr = InstructionSet.getInstructionForMode(line.mnemonic, "REL");
+                    if (target != null) {
+                        int offset = target - (line.address + 2);
+                        if (offset < -128 || offset > 127) line.relaxed = true;
+                    }
+                } else {
+                    InstructionSet.Instruction dir = InstructionSet.getInstructionForMode(line.mnemonic, "DIR");
+                    InstructionSet.Instruction ext = InstructionSet.getInstructionForMode(line.mnemonic, "EXT");
+                    // Çözülemeyen operand 2. geçişte hata verir; en kötü (EXT) boyutla yerleştirilir
+                    boolean fitsDirect = target != null && target >= 0 && target < 0x100;
+
+                    if (dir != null && fitsDirect && !line.extended) {
+                        line.instr = dir;
+                    } else if (ext != null) {
+                        line.instr = ext;
+                        line.extended = true;
+                    } else {
+                        line.instr = dir;
+                    }
+                }
+            }
+        }
+
+        return previous != line.instr || wasRelaxed != line.relaxed;
+    }
+
+    private int lengthOf(SourceLine line) {
+        if (line.instr == null) return 1;
+        if (!line.relaxed) return line.instr.length;
+
+        InstructionSet.Instruction far = farJumpFor(line.mnemonic);
+        return InstructionSet.invertBranch(line.mnemonic) != null ? line.instr.length + far.length : far.length;
+    }
+
+    private int cyclesOf(SourceLine line) {
+        if (line.instr == null) return 0;
+        if (!line.relaxed) return line.instr.cycles;
+
+        InstructionSet.Instruction far = farJumpFor(line.mnemonic);
+        return InstructionSet.invertBranch(line.mnemonic) != null ? line.instr.cycles + far.cycles : far.cycles;
+    }
+
+    private InstructionSet.Instruction farJumpFor(String mnemonic) {
+        return InstructionSet.getInstructionForMode(mnemonic.equals("BSR") ? "JSR" : "JMP", "EXT");
+    }
+
+    public void secondPass() {
+        AssemblePhaseEvent encode = new AssemblePhaseEvent(AssemblePhaseEvent.PASS2);
+        encode.begin();
+
+        for (int i = 0; i < parsedLines.size(); i++) {
+            SourceLine line = parsedLines.get(i);
+
+            if (line.error != null) {
+                outputLines.set(i, line.error);
+                continue;
+            }
+
+            if (line.mnemonic == null) {
+                outputLines.set(i, "");
+                continue;
+            }
+
+            InstructionSet.Instruction instr = line.instr;
+            if (instr == null) {
+                outputLines.set(i, "HATA: Geçersiz komut -> " + line.mnemonic);
+                continue;
+            }
+
+            String operand = line.operand;
+            try {
+                if (line.relaxed) {
+                    outputLines.set(i, encodeRelaxedBranch(line));
+                    continue;
+                }
+
+                StringBuilder obj = new StringBuilder(instr.opcode);
+
+                switch (instr.mode) {
+                    case "IMM" -> {
+                        int value = parseOperand(operand);
+                        obj.append(" ").append(String.format("%02X", value));
+                    }
+                    case "IMM16" -> {
+                        int value = parseOperand(operand);
+                        obj.append(" ").append(String.format("%02X %02X", (value >> 8) & 0xFF, value & 0xFF));
+                    }
+                    case "DIR" -> {
+                        int addr = resolveAddress(operand);
+                        if (addr < 0 || addr > 0xFF) {
+                            throw new IllegalArgumentException("Doğrudan adres aralık dışında: " + addr);
+                        }
+                        obj.append(" ").append(String.format("%02X", addr));
+                    }
+                    case "IDX" -> {
+                        int offset = parseOperand(operand.toUpperCase().replace(",X", "").trim());
+                        obj.append(" ").append(String.format("%02X", offset & 0xFF));
+                    }
+                    case "EXT" -> {
+                        int addr = resolveAddress(operand);
+                        obj.append(" ").append(String.format("%02X %02X", (addr >> 8) & 0xFF, addr & 0xFF));
+                    }
+                    case "REL" -> {
+                        int target = resolveAddress(operand);
+                        int offset = target - (line.address + 2);
+                        if (offset < -128 || offset > 127) {
+                            throw new IllegalArgumentException("Offset aralık dışında: " + offset);
+                        }
+                        obj.append(" ").append(String.format("%02X", offset & 0xFF));
+                    }
+                    default -> {
+                        // INH (inherent) mode
+                    }
+                }
+
+                outputLines.set(i, obj.toString());
+
+            } catch (Exception e) {
+                outputLines.set(i, "HATA: Operand çözülemedi -> " + operand);
+            }
+        }
+
+        // Kaynak haritası kodlamanın parçası sayılır; EMIT yalnızca imaj üretimini ölçer
+        buildSourceMap();
+        objectImage = null;
+        encode.lines = parsedLines.size();
+        encode.commit();
+    }
+
+    private void buildSourceMap() {
+        int size = parsedLines.size();
+        int[] addresses = new int[size];
+        int[] lengths = new int[size];
+        int[] cycles = new int[size];
+        int[] lines = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            SourceLine line = parsedLines.get(i);
+            String obj = outputLines.get(i);
+            if (line.instr == null || obj.isEmpty() || obj.startsWith("HATA")) continue;
+
+            addresses[count] = line.address;
+            lengths[count] = lengthOf(line);
+            cycles[count] = cyclesOf(line);
+            lines[count] = i;
+            count++;
+        }
+
+        sourceMap = SourceMap.build(count, addresses, lengths, cycles, lines);
+    }
+
+    // Uzak dal: koşullu dal için "ters dal $03 + JMP hedef", BRA/BSR için doğrudan JMP/JSR
+    private String encodeRelaxedBranch(SourceLine line) {
+        int target = resolveAddress(line.operand);
+        InstructionSet.Instruction far = farJumpFor(line.mnemonic);
+        StringBuilder obj = new StringBuilder();
+
+        String inverse = InstructionSet.invertBranch(line.mnemonic);
+        if (inverse != null) {
+            InstructionSet.Instruction skip = InstructionSet.getInstructionForMode(inverse, "REL");
+            obj.append(skip.opcode).append(" ").append(String.format("%02X", far.length)).append(" ");
+        }
+
+        obj.append(far.opcode).append(" ").append(String.format("%02X %02X", (target >> 8) & 0xFF, target & 0xFF));
+        return obj.toString();
+    }
+
+    private int parseOperand(String operand) {
+        if (operand == null) return 0;
+
+        operand = operand.trim().replace("*", "");
+
+        if (operand.startsWith("#")) operand = operand.substring(1);
+        if (operand.startsWith("$")) operand = "0x" + operand.substring(1);
+
+        return Integer.decode(operand);
+    }
+
+    private int resolveAddress(String operand) {
+        if (operand == null) return 0;
+        Integer labelAddress = labelAddressMap.get(operand.toUpperCase());
+        if (labelAddress != null) return labelAddress;
+        if (operand.startsWith("$")) operand = "0x" + operand.substring(1);
+        return Integer.decode(operand);
+    }
+
+    // Henüz tanımlanmamış etiketler için null döner
+    private Integer tryResolveAddress(String operand) {
+        try {
+            return resolveAddress(operand);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public List<String> getOutputLines() {
+        return outputLines;
+    }
+
+    // İmaj çeviri başına bir kez üretilir; sonraki çağrılar (görünüm, kaydetme, analiz) aynı nesneyi alır,
+    // böylece her çeviri için tek bir EMIT olayı kaydedilir
+    public ObjectImage buildObjectImage() {
+        if (objectImage != null) return objectImage;
+
+        AssemblePhaseEvent emit = new AssemblePhaseEvent(AssemblePhaseEvent.EMIT);
+        emit.begin();
+        objectImage = ObjectImage.build(outputLines, sourceMap);
+        emit.lines = sourceMap.size();
+        emit.commit();
+        return objectImage;
+    }
+
+    public SourceMap getSourceMap() {
+        return sourceMap;
+    }
+
+    public LayoutReport getLayoutReport() {
+        return layoutReport;
+    }
+}
@@ -0,0 +1,243 @@
+package assembler;
+
+import java.util.Map;
+
+public class InstructionSet {
+
+    public static class Instruction {
+        public final String opcode;
+        public final String mode;
+        public final int length;
+        public final int cycles;
+
+        public Instruction(String opcode, String mode, int length, int cycles) {
+            this.opcode = opcode;
+            this.mode = mode;
+            this.length = length;
+            this.cycles = cycles;
+        }
+    }
+
+    // Tablo satırı; arama kipi operand biçiminden gelir, komutun kodlama kipinden farklı olabilir (LDX #: IMM → IMM16)
+    private static final class Entry {
+        final String mnemonic;
+        final String mode;
+        final Instruction instr;
+
+        Entry(String mnemonic, String mode, Instruction instr) {
+            this.mnemonic = mnemonic;
+            this.mode = mode;
+            this.instr = instr;
+        }
+    }
+
+    // (komut, kip) sırasına göre dizili sabit tablo; arama ikili aramayla yapılır.
+    // Sınıf yüklenirken karma tablo kurulmaz, kutulama ya da dize birleştirme yapılmaz.
+    // Yeni satır eklerken sıra korunmalı; bozulursa sınıf yüklenemez.
+    private static final Entry[] TABLE = {
+            new Entry("ABA", "INH", new Instruction("1B", "INH", 1, 2)),
+            new Entry("ADDA", "DIR", new Instruction("9B", "DIR", 2, 3)),
+            new Entry("ADDA", "EXT", new Instruction("BB", "EXT", 3, 4)),
+            new Entry("ADDA", "IMM", new Instruction("8B", "IMM", 2, 2)),
+            new Entry("ADDB", "IMM", new Instruction("CB", "IMM", 2, 2)),
+            new Entry("ANDA", "DIR", new Instruction("94", "DIR", 2, 3)),
+            new Entry("ANDA", "EXT", new Instruction("B4", "EXT", 3, 4)),
+            new Entry("ANDA", "IMM", new Instruction("84", "IMM", 2, 2)),
+            new Entry("ASLA", "INH", new Instruction("48", "INH", 1, 2)),
+            new Entry("ASLB", "INH", new Instruction("58", "INH", 1, 2)),
+            new Entry("ASRA", "INH", new Instruction("47", "INH", 1, 2)),
+            new Entry("ASRB", "INH", new Instruction("57", "INH", 1, 2)),
+            new Entry("BEQ", "REL", new Instruction("27", "REL", 2, 4)),
+            new Entry("BMI", "REL", new Instruction("2B", "REL", 2, 4)),
+            new Entry("BNE", "REL", new Instruction("26", "REL", 2, 4)),
+            new Entry("BPL", "REL", new Instruction("2A", "REL", 2, 4)),
+            new Entry("BRA", "REL", new Instruction("20", "REL", 2, 4)),
+            new Entry("BSR", "REL", new Instruction("8D", "REL", 2, 8)),
+            new Entry("CBA", "INH", new Instruction("11", "INH", 1, 2)),
+            new Entry("CLC", "INH", new Instruction("0C", "INH", 1, 2)),
+            new Entry("CLRA", "INH", new Instruction("4F", "INH", 1, 2)),
+            new Entry("CLRB", "INH", new Instruction("5F", "INH", 1, 2)),
+            new Entry("CMPA", "DIR", new Instruction("91", "DIR", 2, 3)),
+            new Entry("CMPA", "EXT", new Instruction("B1", "EXT", 3, 4)),
+            new Entry("CMPA", "IMM", new Instruction("81", "IMM", 2, 2)),
+            new Entry("CMPB", "DIR", new Instruction("D1", "DIR", 2, 3)),
+            new Entry("CMPB", "EXT", new Instruction("F1", "EXT", 3, 4)),
+            new Entry("CMPB", "IMM", new Instruction("C1", "IMM", 2, 2)),
+            new Entry("DECA", "INH", new Instruction("4A", "INH", 1, 2)),
+            new Entry("DECB", "INH", new Instruction("5A", "INH", 1, 2)),
+            new Entry("DEX", "INH", new Instruction("09", "INH", 1, 4)),
+            new Entry("INCA", "INH", new Instruction("4C", "INH", 1, 2)),
+            new Entry("INCB", "INH", new Instruction("5C", "INH", 1, 2)),
+            new Entry("INX", "INH", new Instruction("08", "INH", 1, 4)),
+            new Entry("JMP", "EXT", new Instruction("7E", "EXT", 3, 3)),
+            new Entry("JSR", "EXT", new Instruction("BD", "EXT", 3, 9)),
+            new Entry("LDAA", "DIR", new Instruction("96", "DIR", 2, 3)),
+            new Entry("LDAA", "EXT", new Instruction("B6", "EXT", 3, 4)),
+            new Entry("LDAA", "IDX", new Instruction("A6", "IDX", 2, 5)),
+            new Entry("LDAA", "IMM", new Instruction("86", "IMM", 2, 2)),
+            new Entry("LDAB", "DIR", new Instruction("D6", "DIR", 2, 3)),
+            new Entry("LDAB", "EXT", new Instruction("F6", "EXT", 3, 4)),
+            new Entry("LDAB", "IDX", new Instruction("E6", "IDX", 2, 5)),
+            new Entry("LDAB", "IMM", new Instruction("C6", "IMM", 2, 2)),
+            new Entry("LDX", "DIR", new Instruction("DE", "DIR", 2, 4)),
+            new Entry("LDX", "IDX", new Instruction("EE", "IDX", 2, 6)),
+            new Entry("LDX", "IMM", new Instruction("CE", "IMM16", 3, 3)),
+            new Entry("LDX", "IMM16", new Instruction("CE", "IMM16", 3, 3)),
+            new Entry("LSRA", "INH", new Instruction("44", "INH", 1, 2)),
+            new Entry("LSRB", "INH", new Instruction("54", "INH", 1, 2)),
+            new Entry("NOP", "INH", new Instruction("01", "INH", 1, 2)),
+            new Entry("ROLA", "INH", new Instruction("49", "INH", 1, 2)),
+            new Entry("ROLB", "INH", new Instruction("59", "INH", 1, 2)),
+            new Entry("RORA", "INH", new Instruction("46", "INH", 1, 2)),
+            new Entry("RORB", "INH", new Instruction("56", "INH", 1, 2)),
+            new Entry("RTS", "INH", new Instruction("39", "INH", 1, 5)),
+            new Entry("SBA", "INH", new Instruction("10", "INH", 1, 2)),
+            new Entry("SEC", "INH", new Instruction("0D", "INH", 1, 2)),
+            new Entry("STAA", "DIR", new Instruction("97", "DIR", 2, 4)),
+            new Entry("STAA", "EXT", new Instruction("B7", "EXT", 3, 5)),
+            new Entry("STAA", "IDX", new Instruction("A7", "IDX", 2, 6)),
+            new Entry("STAB", "DIR", new Instruction("D7", "DIR", 2, 4)),
+            new Entry("STAB", "EXT", new Instruction("F7", "EXT", 3, 5)),
+            new Entry("STAB", "IDX", new Instruction("E7", "IDX", 2, 6)),
+            new Entry("STX", "DIR", new Instruction("DF", "DIR", 2, 5)),
+            new Entry("STX", "IDX", new Instruction("EF", "IDX", 2, 7)),
+            new Entry("SUBA", "DIR", new Instruction("90", "DIR", 2, 3)),
+            new Entry("SUBA", "EXT", new Instruction("B0", "EXT", 3, 4)),
+            new Entry("SUBA", "IMM", new Instruction("80", "IMM", 2, 2)),
+            new Entry("SUBB", "IMM", new Instruction("C0", "IMM", 2, 2)),
+            new Entry("TAB", "INH", new Instruction("16", "INH", 1, 2)),
+            new Entry("TBA", "INH", new Instruction("17", "INH", 1, 2))
+    };
+
+    private static final int[] opcodeCycles = new int[256];
+    private static final int[] opcodeLengths = new int[256];
+
+    // Koşullu dallanmaların tersleri (dal genişletme için)
+    private static final Map<String, String> invertedBranches = Map.of(
+            "BNE", "BEQ",
+            "BEQ", "BNE",
+            "BMI", "BPL",
+            "BPL", "BMI"
+    );
+
+    static {
+        for (int i = 0; i < TABLE.length; i++) {
+            if (i > 0 && compare(TABLE[i - 1], TABLE[i].mnemonic, TABLE[i].mode) >= 0) {
+                throw new IllegalStateException("Komut tablosu sıralı değil: " + TABLE[i].mnemonic + " " + TABLE[i].mode);
+            }
+            int opcode = Integer.parseInt(TABLE[i].instr.opcode, 16);
+            opcodeCycles[opcode] = TABLE[i].instr.cycles;
+            opcodeLengths[opcode] = TABLE[i].instr.length;
+        }
+    }
+
+    private static int compare(Entry entry, String mnemonic, String mode) {
+        int cmp = entry.mnemonic.compareTo(mnemonic);
+        return cmp != 0 || mode == null ? cmp : entry.mode.compareTo(mode);
+    }
+
+    // mode null ise komutun herhangi bir kipteki satırı; yoksa -1
+    private static int find(String mnemonic, String mode) {
+        int low = 0, high = TABLE.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(TABLE[mid], mnemonic, mode);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public static Instruction getInstruction(String mnemonic, String operand) {
+        if (mnemonic == null) return null;
+        return getInstructionForMode(mnemonic, determineModeKey(operand));
+    }
+
+    public static Instruction getInstructionForMode(String mnemonic, String mode) {
+        if (mnemonic == null) return null;
+        int index = find(mnemonic.toUpperCase(), mode);
+        return index < 0 ? null : TABLE[index].instr;
+    }
+
+    // Simülatör sayaçları için opcode → çevrim; tabloda olmayan opcode için 0
+    public static int cyclesForOpcode(int opcode) {
+        return opcodeCycles[opcode & 0xFF];
+    }
+
+    // Görüntü çözümlemesi için opcode → bayt uzunluğu; tabloda olmayan opcode için 0
+    public static int lengthForOpcode(int opcode) {
+        return opcodeLengths[opcode & 0xFF];
+    }
+
+    public static boolean isMnemonic(String mnemonic) {
+        return mnemonic != null && find(mnemonic.toUpperCase(), null) >= 0;
+    }
+
+    public static boolean isBranch(String mnemonic) {
+        return getInstructionForMode(mnemonic, "REL") != null;
+    }
+
+    // Ters koşullu dal; BRA/BSR gibi koşulsuz dallar için null döner
+    public static String invertBranch(String mnemonic) {
+        return mnemonic == null ? null : invertedBranches.get(mnemonic.toUpperCase());
+    }
+
+    // Düzenli ifade kullanılmaz; regex altyapısı her satırda ve başlangıçta yüklenmesin diye elle denetlenir
+    static String determineModeKey(String operand) {
+        if (operand == null || operand.isEmpty()) return "INH";
+        operand = operand.trim().toUpperCase().replace("*", "");
+
+        if (operand.startsWith("#")) {
+            String value = operand.substring(1);
+            if (value.startsWith("$")) value = value.substring(1);
+            if (value.length() > 2) return "IMM16";
+            return "IMM";
+        }
+
+        if (operand.endsWith(",X")) return "IDX";
+        if (isExtendedAddress(operand)) return "EXT";
+        if (isInteger(operand) || isIdentifier(operand)) return "REL";
+
+        return "DIR";
+    }
+
+    // $HHHH ya da dört ondalık basamak
+    private static boolean isExtendedAddress(String operand) {
+        if (operand.length() == 5 && operand.charAt(0) == '$') {
+            for (int i = 1; i < 5; i++) {
+                char c = operand.charAt(i);
+                if (!(c >= '0' && c <= '9') && !(c >= 'A' && c <= 'F')) return false;
+            }
+            return true;
+        }
+        return operand.length() == 4 && allDigits(operand, 0);
+    }
+
+    private static boolean isInteger(String operand) {
+        int start = operand.startsWith("-") ? 1 : 0;
+        return operand.length() > start && allDigits(operand, start);
+    }
+
+    private static boolean isIdentifier(String operand) {
+        if (operand.isEmpty()) return false;
+        char first = operand.charAt(0);
+        if (!(first >= 'A' && first <= 'Z') && first != '_') return false;
+        for (int i = 1; i < operand.length(); i++) {
+            char c = operand.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '_') return false;
+        }
+        return true;
+    }
+
+    private static boolean allDigits(String text, int start) {
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') return false;
+        }
+        return true;
+    }
+}
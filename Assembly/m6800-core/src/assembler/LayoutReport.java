@@ -0,0 +1,24 @@
+package assembler;
+
+public class LayoutReport {
+    public final int iterations;
+    public final int directPromotions;
+    public final int relaxedBranches;
+    public final int bytesSaved;
+    public final int cyclesSaved;
+
+    public LayoutReport(int iterations, int directPromotions, int relaxedBranches, int bytesSaved, int cyclesSaved) {
+        this.iterations = iterations;
+        this.directPromotions = directPromotions;
+        this.relaxedBranches = relaxedBranches;
+        this.bytesSaved = bytesSaved;
+        this.cyclesSaved = cyclesSaved;
+    }
+
+    @Override
+    public String toString() {
+        return "Yerleşim: " + iterations + " tur | DIR: " + directPromotions
+                + " | Genişletilen dal: " + relaxedBranches
+                + " | Kazanç: " + bytesSaved + " bayt, " + cyclesSaved + " çevrim";
+    }
+}
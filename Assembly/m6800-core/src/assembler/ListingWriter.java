@@ -0,0 +1,54 @@
+package assembler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// Adres, makine kodu baytları, çevrim sayısı ve kaynak satırını yan yana yazan liste dosyası
+public class ListingWriter {
+
+    private final List<String> sourceLines;
+    private final List<String> outputLines;
+    private final SourceMap sourceMap;
+
+    public ListingWriter(List<String> sourceLines, List<String> outputLines, SourceMap sourceMap) {
+        this.sourceLines = sourceLines;
+        this.outputLines = outputLines;
+        this.sourceMap = sourceMap;
+    }
+
+    public void write(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    public void write(Writer writer) throws IOException {
+        int[] lineToEntry = new int[sourceLines.size()];
+        Arrays.fill(lineToEntry, -1);
+        for (int i = 0; i < sourceMap.size(); i++) {
+            lineToEntry[sourceMap.getLine(i)] = i;
+        }
+
+        writer.write(String.format("%5s  %-4s  %-15s %3s  %s%n", "SATIR", "ADR", "BAYTLAR", "ÇVR", "KAYNAK"));
+        for (int i = 0; i < sourceLines.size(); i++) {
+            String source = sourceLines.get(i).stripTrailing();
+            String obj = i < outputLines.size() ? outputLines.get(i) : "";
+            int entry = lineToEntry[i];
+
+            if (entry >= 0) {
+                writer.write(String.format("%5d  %04X  %-15s %3d  %s%n", i + 1,
+                        sourceMap.getAddress(entry), obj, sourceMap.getCycles(entry), source));
+            } else if (obj.startsWith("HATA")) {
+                writer.write(String.format("%5d  %-4s  %-15s %3s  %s ; %s%n", i + 1, "", "", "", source, obj));
+            } else {
+                writer.write(String.format("%5d  %-4s  %-15s %3s  %s%n", i + 1, "", "", "", source));
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package assembler;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+// Kaynak dosyayı belleğe eşler; yalnızca satır başlangıçları indekslenir,
+// satırlar istendikçe UTF-8'den çözülür. Böylece büyük dosyalar için tek parça String oluşmaz.
+public class MappedSource extends AbstractList<String> implements RandomAccess {
+
+    private final MappedByteBuffer buffer;
+    private final int[] lineStarts;
+    private final int lineCount;
+
+    private MappedSource(MappedByteBuffer buffer, int[] lineStarts, int lineCount) {
+        this.buffer = buffer;
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+    }
+
+    public static MappedSource open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Dosya eşlenemeyecek kadar büyük: " + path);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int limit = (int) size;
+
+            int[] starts = new int[1024];
+            int count = 0;
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (buffer.get(i) != '\n') continue;
+                if (count + 1 >= starts.length) starts = Arrays.copyOf(starts, starts.length * 2);
+                starts[count++] = lineStart;
+                lineStart = i + 1;
+            }
+            if (lineStart < limit || count == 0) {
+                if (count + 1 >= starts.length) starts = Arrays.copyOf(starts, starts.length + 2);
+                starts[count++] = lineStart;
+                lineStart = limit + 1;
+            }
+            // Son satırın bitişi için gözcü değer
+            starts[count] = lineStart;
+
+            return new MappedSource(buffer, starts, count);
+        }
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= lineCount) {
+            throw new IndexOutOfBoundsException("Satır: " + index);
+        }
+
+        int start = lineStarts[index];
+        int end = Math.min(lineStarts[index + 1] - 1, buffer.limit());
+        if (end > start && buffer.get(end - 1) == '\r') end--;
+
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int size() {
+        return lineCount;
+    }
+
+    public long byteSize() {
+        return buffer.limit();
+    }
+}
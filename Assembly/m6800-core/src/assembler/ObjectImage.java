@@ -0,0 +1,66 @@
+package assembler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Çevrilmiş programın bellek görüntüsü: en düşük adresten en yüksek adrese kadar
+// kesintisiz bayt dizisi; ORG boşlukları sıfırla doldurulur.
+public class ObjectImage {
+
+    private final int baseAddress;
+    private final byte[] bytes;
+
+    public ObjectImage(int baseAddress, byte[] bytes) {
+        this.baseAddress = baseAddress;
+        this.bytes = bytes;
+    }
+
+    static ObjectImage build(List<String> outputLines, SourceMap sourceMap) {
+        if (sourceMap.size() == 0) return new ObjectImage(0, new byte[0]);
+
+        int base = sourceMap.getAddress(0);
+        int end = base;
+        for (int i = 0; i < sourceMap.size(); i++) {
+            end = Math.max(end, sourceMap.getAddress(i) + sourceMap.getLength(i));
+        }
+
+        byte[] bytes = new byte[end - base];
+        for (int i = 0; i < sourceMap.size(); i++) {
+            String obj = outputLines.get(sourceMap.getLine(i));
+            int position = sourceMap.getAddress(i) - base;
+            for (int c = 0; c + 1 < obj.length(); c += 3) {
+                int high = Character.digit(obj.charAt(c), 16);
+                int low = Character.digit(obj.charAt(c + 1), 16);
+                bytes[position++] = (byte) ((high << 4) | low);
+            }
+        }
+
+        return new ObjectImage(base, bytes);
+    }
+
+    public int getBaseAddress() {
+        return baseAddress;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public void writeTo(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package assembler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Çevrilmiş görüntü üzerinde çalıştırmadan önce yapılan durağan analiz.
+// Komutlar kaynak haritasının kapsadığı baytlardan çözülür (genişletilmiş dallar iki komut olarak görünür),
+// dal ve atlama hedeflerinden kontrol akış grafiği kurulur. Her komutun en fazla üç kenarı vardır:
+// sıradaki komut, dal/atlama hedefi ve JSR/BSR çağrısı.
+//
+// Güçlü bağlı bileşenler Tarjan algoritmasıyla tek geçişte bulunur; bileşenler ters topolojik sırada
+// kapandığı için yığın derinliği ve çevrim sınırları aynı geçişte hesaplanır. Toplam iş komut sayısıyla
+// doğrusaldır, 64 KB'lık görüntülerde de özyineleme kullanılmaz.
+//
+// Yığın 6800 donanımına göre sayılır: JSR/BSR dönüş adresi için 2 bayt iter, RTS geri alır.
+public class ProgramAnalyzer {
+
+    private static final int NONE = -1;
+    private static final int FALL = 0;
+    private static final int JUMP = 1;
+    private static final int CALL = 2;
+    private static final int CALL_BYTES = 2;
+
+    private final SourceMap sourceMap;
+    private final byte[] image;
+    private final int base;
+    private final List<String> warnings = new ArrayList<>();
+
+    private int count;
+    private int[] addresses;
+    private int[] lengths;
+    private int[] cycles;
+    private int[] lines;
+    private int[][] edges;
+    // RTS ya da yüklü kodun dışına çıkan akış: döngüden çıkış sayılır
+    private boolean[] leaves;
+    private final int[] indexAt = new int[0x10000];
+
+    private int[] component;
+    private boolean[] looping;
+    private long[] stackBytes;
+    private long[] worstCycles;
+    private long[] loopFreeCycles;
+    private final List<AnalysisReport.Loop> loops = new ArrayList<>();
+
+    private ProgramAnalyzer(ObjectImage image, SourceMap sourceMap) {
+        this.sourceMap = sourceMap;
+        this.image = image.getBytes();
+        this.base = image.getBaseAddress();
+    }
+
+    public static AnalysisReport analyze(ObjectImage image, SourceMap sourceMap) {
+        AssemblePhaseEvent event = new AssemblePhaseEvent(AssemblePhaseEvent.ANALYZE);
+        event.begin();
+        ProgramAnalyzer analyzer = new ProgramAnalyzer(image, sourceMap);
+        AnalysisReport report = analyzer.run();
+        event.lines = analyzer.count;
+        event.commit();
+        return report;
+    }
+
+    private AnalysisReport run() {
+        decode();
+        link();
+
+        int entry = sourceMap.getEntryAddress() < 0 ? NONE : indexAt[sourceMap.getEntryAddress()];
+        if (entry == NONE) {
+            return new AnalysisReport(count, 0, 0, List.of(), List.of(), List.of(), warnings);
+        }
+
+        boolean[] reachable = reach(entry);
+        components();
+
+        List<AnalysisReport.Routine> routines = new ArrayList<>();
+        boolean[] routine = new boolean[count];
+        routine[entry] = true;
+        for (int i = 0; i < count; i++) {
+            if (reachable[i] && edges[i][CALL] != NONE) routine[edges[i][CALL]] = true;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!routine[i]) continue;
+            routines.add(new AnalysisReport.Routine(addresses[i], lines[i], stackBytes[i], worstCycles[i],
+                    looping[i] ? 0 : loopFreeCycles[i]));
+        }
+
+        List<AnalysisReport.Loop> reachableLoops = new ArrayList<>();
+        for (AnalysisReport.Loop loop : loops) {
+            if (reachable[indexAt[loop.startAddress]]) reachableLoops.add(loop);
+        }
+        reachableLoops.sort(Comparator.comparingInt(loop -> loop.startAddress));
+
+        return new AnalysisReport(count, stackBytes[entry], worstCycles[entry], routines,
+                reachableLoops, unreachable(reachable), warnings);
+    }
+
+    // Kaynak haritasındaki her girdinin baytları opcode uzunluklarına göre komutlara ayrılır
+    private void decode() {
+        int capacity = 0;
+        for (int e = 0; e < sourceMap.size(); e++) {
+            capacity += sourceMap.getLength(e);
+        }
+        addresses = new int[capacity];
+        lengths = new int[capacity];
+        cycles = new int[capacity];
+        lines = new int[capacity];
+        Arrays.fill(indexAt, NONE);
+
+        for (int e = 0; e < sourceMap.size(); e++) {
+            int address = sourceMap.getAddress(e);
+            int end = address + sourceMap.getLength(e);
+            while (address < end) {
+                int opcode = byteAt(address);
+                int length = InstructionSet.lengthForOpcode(opcode);
+                if (length == 0) {
+                    warnings.add(String.format("$%04X (satır %d): bilinmeyen opcode $%02X",
+                            address, sourceMap.getLine(e) + 1, opcode));
+                    break;
+                }
+
+                addresses[count] = address;
+                lengths[count] = length;
+                cycles[count] = InstructionSet.cyclesForOpcode(opcode);
+                lines[count] = sourceMap.getLine(e);
+                indexAt[address & 0xFFFF] = count;
+                count++;
+                address += length;
+            }
+        }
+    }
+
+    private void link() {
+        edges = new int[count][3];
+        leaves = new boolean[count];
+
+        for (int i = 0; i < count; i++) {
+            int address = addresses[i];
+            int next = address + lengths[i];
+            int relative = (address + 2 + (byte) byteAt(address + 1)) & 0xFFFF;
+            int absolute = (byteAt(address + 1) << 8) | byteAt(address + 2);
+            int[] edge = edges[i];
+            Arrays.fill(edge, NONE);
+
+            switch (byteAt(address)) {
+                case 0x20: // BRA
+                    edge[JUMP] = target(i, relative);
+                    break;
+                case 0x26: // BNE
+                case 0x27: // BEQ
+                case 0x2A: // BPL
+                case 0x2B: // BMI
+                    edge[FALL] = target(i, next);
+                    edge[JUMP] = target(i, relative);
+                    break;
+                case 0x7E: // JMP addr
+                    edge[JUMP] = target(i, absolute);
+                    break;
+                case 0x8D: // BSR
+                    edge[FALL] = target(i, next);
+                    edge[CALL] = target(i, relative);
+                    break;
+                case 0xBD: // JSR addr
+                    edge[FALL] = target(i, next);
+                    edge[CALL] = target(i, absolute);
+                    break;
+                case 0x39: // RTS
+                    leaves[i] = true;
+                    break;
+                default:
+                    edge[FALL] = target(i, next);
+            }
+        }
+    }
+
+    // Hedef bir komut başı değilse akış orada biter; yüklü kodun ortasına düşüyorsa uyarı verilir
+    private int target(int from, int address) {
+        int index = indexAt[address & 0xFFFF];
+        if (index != NONE) return index;
+
+        leaves[from] = true;
+        if (sourceMap.indexOf(address) >= 0) {
+            warnings.add(String.format("$%04X (satır %d): komut ortasına dallanma → $%04X",
+                    addresses[from], lines[from] + 1, address));
+        }
+        return NONE;
+    }
+
+    private boolean[] reach(int entry) {
+        boolean[] seen = new boolean[count];
+        int[] pending = new int[count];
+        int top = 0;
+        pending[top++] = entry;
+        seen[entry] = true;
+
+        while (top > 0) {
+            int node = pending[--top];
+            for (int next : edges[node]) {
+                if (next != NONE && !seen[next]) {
+                    seen[next] = true;
+                    pending[top++] = next;
+                }
+            }
+        }
+        return seen;
+    }
+
+    // Yinelemeli Tarjan; her bileşen kapandığında değerleri finish içinde hesaplanır
+    private void components() {
+        component = new int[count];
+        looping = new boolean[count];
+        stackBytes = new long[count];
+        worstCycles = new long[count];
+        loopFreeCycles = new long[count];
+
+        int[] order = new int[count];
+        int[] low = new int[count];
+        boolean[] onStack = new boolean[count];
+        int[] stack = new int[count];
+        int[] work = new int[count];
+        int[] nextEdge = new int[count];
+        Arrays.fill(order, NONE);
+        int counter = 0, top = 0, components = 0;
+
+        for (int root = 0; root < count; root++) {
+            if (order[root] != NONE) continue;
+
+            int depth = 0;
+            work[depth++] = root;
+            order[root] = low[root] = counter++;
+            stack[top++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int node = work[depth - 1];
+                if (nextEdge[node] < 3) {
+                    int next = edges[node][nextEdge[node]++];
+                    if (next == NONE) continue;
+                    if (order[next] == NONE) {
+                        work[depth++] = next;
+                        order[next] = low[next] = counter++;
+                        stack[top++] = next;
+                        onStack[next] = true;
+                    } else if (onStack[next]) {
+                        low[node] = Math.min(low[node], order[next]);
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (depth > 0) {
+                    int parent = work[depth - 1];
+                    low[parent] = Math.min(low[parent], low[node]);
+                }
+                if (low[node] != order[node]) continue;
+
+                int first = top;
+                do {
+                    first--;
+                    onStack[stack[first]] = false;
+                    component[stack[first]] = components;
+                } while (stack[first] != node);
+                finish(stack, first, top, components++);
+                top = first;
+            }
+        }
+    }
+
+    // Bileşendeki tüm çıkış kenarlarının hedefleri önceden kapanmıştır
+    private void finish(int[] stack, int first, int end, int id) {
+        int node = stack[first];
+        boolean cyclic = end - first > 1;
+        boolean recursive = false;
+        for (int k = first; k < end; k++) {
+            int[] edge = edges[stack[k]];
+            for (int e = 0; e < 3; e++) {
+                if (edge[e] == NONE || component[edge[e]] != id) continue;
+                cyclic = true;
+                if (e == CALL) recursive = true;
+            }
+        }
+
+        long stackDepth = 0;
+        for (int k = first; k < end; k++) {
+            int[] edge = edges[stack[k]];
+            for (int e = 0; e < 3; e++) {
+                if (edge[e] == NONE || component[edge[e]] == id) continue;
+                long depth = stackBytes[edge[e]];
+                stackDepth = Math.max(stackDepth, e == CALL ? add(depth, CALL_BYTES) : depth);
+            }
+        }
+        if (recursive) stackDepth = AnalysisReport.UNBOUNDED;
+
+        for (int k = first; k < end; k++) {
+            stackBytes[stack[k]] = stackDepth;
+            looping[stack[k]] = cyclic;
+            worstCycles[stack[k]] = AnalysisReport.UNBOUNDED;
+        }
+
+        if (cyclic) {
+            loops.add(loop(stack, first, end, id, recursive));
+            return;
+        }
+
+        int[] edge = edges[node];
+        long callee = edge[CALL] == NONE ? 0 : worstCycles[edge[CALL]];
+        long after = 0, afterLoopFree = 0;
+        for (int e = FALL; e <= JUMP; e++) {
+            if (edge[e] == NONE) continue;
+            after = Math.max(after, worstCycles[edge[e]]);
+            afterLoopFree = Math.max(afterLoopFree, looping[edge[e]] ? 0 : loopFreeCycles[edge[e]]);
+        }
+
+        worstCycles[node] = add(add(cycles[node], callee), after);
+        loopFreeCycles[node] = callee == AnalysisReport.UNBOUNDED
+                ? cycles[node]
+                : add(add(cycles[node], callee), afterLoopFree);
+    }
+
+    private AnalysisReport.Loop loop(int[] stack, int first, int end, int id, boolean recursive) {
+        int lowest = stack[first], highest = stack[first];
+        long iteration = recursive ? AnalysisReport.UNBOUNDED : 0;
+        long exit = 0;
+        boolean hasExit = false;
+
+        for (int k = first; k < end; k++) {
+            int node = stack[k];
+            int[] edge = edges[node];
+            if (node < lowest) lowest = node;
+            if (node > highest) highest = node;
+            if (leaves[node]) hasExit = true;
+
+            long callee = edge[CALL] == NONE || component[edge[CALL]] == id ? 0 : worstCycles[edge[CALL]];
+            iteration = add(iteration, add(cycles[node], callee));
+
+            for (int e = FALL; e <= JUMP; e++) {
+                if (edge[e] == NONE || component[edge[e]] == id) continue;
+                hasExit = true;
+                exit = Math.max(exit, looping[edge[e]] ? 0 : loopFreeCycles[edge[e]]);
+            }
+        }
+
+        return new AnalysisReport.Loop(addresses[lowest], addresses[highest] + lengths[highest] - 1,
+                lines[lowest], end - first, iteration, exit, hasExit, recursive);
+    }
+
+    // Komutlar adres sırasında olduğundan ardışık erişilemeyen komutlar tek aralıkta birleşir
+    private List<AnalysisReport.Range> unreachable(boolean[] reachable) {
+        List<AnalysisReport.Range> ranges = new ArrayList<>();
+        int start = NONE;
+        for (int i = 0; i <= count; i++) {
+            boolean dead = i < count && !reachable[i];
+            if (dead && start != NONE && addresses[i] != addresses[i - 1] + lengths[i - 1]) {
+                ranges.add(range(start, i - 1));
+                start = NONE;
+            }
+            if (dead && start == NONE) start = i;
+            if (!dead && start != NONE) {
+                ranges.add(range(start, i - 1));
+                start = NONE;
+            }
+        }
+        return ranges;
+    }
+
+    private AnalysisReport.Range range(int first, int last) {
+        return new AnalysisReport.Range(addresses[first], addresses[last] + lengths[last] - 1, lines[first], lines[last]);
+    }
+
+    private int byteAt(int address) {
+        int offset = address - base;
+        return offset >= 0 && offset < image.length ? image[offset] & 0xFF : 0;
+    }
+
+    // Taşma ya da sınırsız değer sınırsız olarak kalır
+    private static long add(long a, long b) {
+        if (a == AnalysisReport.UNBOUNDED || b == AnalysisReport.UNBOUNDED) return AnalysisReport.UNBOUNDED;
+        long sum = a + b;
+        return sum < 0 ? AnalysisReport.UNBOUNDED : sum;
+    }
+}
@@ -0,0 +1,92 @@
+package assembler;
+
+import java.util.Arrays;
+
+// Adres → kaynak satırı eşlemesi. Girdiler adrese göre sıralı tutulur,
+// böylece PC'den satıra dönüşüm ikili arama ile O(log n) yapılır.
+public class SourceMap {
+
+    private final int[] addresses;
+    private final int[] lengths;
+    private final int[] cycles;
+    private final int[] lines;
+    private final int entryAddress;
+
+    private SourceMap(int[] addresses, int[] lengths, int[] cycles, int[] lines, int entryAddress) {
+        this.addresses = addresses;
+        this.lengths = lengths;
+        this.cycles = cycles;
+        this.lines = lines;
+        this.entryAddress = entryAddress;
+    }
+
+    // Girdiler kaynak sırasıyla verilir; ORG ile geri sıçrayan programlar için burada sıralanır
+    public static SourceMap build(int count, int[] addresses, int[] lengths, int[] cycles, int[] lines) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((long) addresses[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] sortedAddresses = new int[count];
+        int[] sortedLengths = new int[count];
+        int[] sortedCycles = new int[count];
+        int[] sortedLines = new int[count];
+        for (int i = 0; i < count; i++) {
+            int source = (int) keys[i];
+            sortedAddresses[i] = addresses[source];
+            sortedLengths[i] = lengths[source];
+            sortedCycles[i] = cycles[source];
+            sortedLines[i] = lines[source];
+        }
+
+        int entry = count > 0 ? addresses[0] : -1;
+        return new SourceMap(sortedAddresses, sortedLengths, sortedCycles, sortedLines, entry);
+    }
+
+    // Adresi kapsayan girdinin indeksi; yoksa -1
+    public int indexOf(int address) {
+        int low = 0, high = addresses.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (addresses[mid] <= address) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0 || address >= addresses[high] + lengths[high]) return -1;
+        return high;
+    }
+
+    // Adresi kapsayan kaynak satırının 0 tabanlı indeksi; yoksa -1
+    public int lineForAddress(int address) {
+        int index = indexOf(address);
+        return index < 0 ? -1 : lines[index];
+    }
+
+    public int size() {
+        return addresses.length;
+    }
+
+    public int getAddress(int index) {
+        return addresses[index];
+    }
+
+    public int getLength(int index) {
+        return lengths[index];
+    }
+
+    public int getCycles(int index) {
+        return cycles[index];
+    }
+
+    public int getLine(int index) {
+        return lines[index];
+    }
+
+    // Kaynaktaki ilk komutun adresi; program yoksa -1
+    public int getEntryAddress() {
+        return entryAddress;
+    }
+}
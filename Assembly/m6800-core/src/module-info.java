@@ -0,0 +1,10 @@
+// Çevirici, CPU ve bellek; JavaFX bağımlılığı yoktur
+// -Xlint:module, "m6800" adındaki sondaki rakamlar için uyarır; ad bilerek korunuyor
+@SuppressWarnings("module")
+module m6800.core {
+    requires java.management;
+    requires jdk.jfr;
+
+    exports assembler;
+    exports simulator;
+}
@@ -0,0 +1,91 @@
+package simulator;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+// Adres başına tek bit: yürütülen komutlar ile koşullu dalların alınan/alınmayan yönleri.
+// Birden çok çalıştırmanın sonuçları merge ile birleştirilir; her çalıştırma kendi kaydedicisini kullanmalıdır.
+public class CoverageRecorder {
+
+    private final BitSet executed = new BitSet(0x10000);
+    private final BitSet branchTaken = new BitSet(0x10000);
+    private final BitSet branchNotTaken = new BitSet(0x10000);
+
+    public void recordExecuted(int address) {
+        executed.set(address & 0xFFFF);
+    }
+
+    public void recordBranch(int address, boolean taken) {
+        (taken ? branchTaken : branchNotTaken).set(address & 0xFFFF);
+    }
+
+    public boolean isExecuted(int address) {
+        return executed.get(address & 0xFFFF);
+    }
+
+    public boolean isBranchTaken(int address) {
+        return branchTaken.get(address & 0xFFFF);
+    }
+
+    public boolean isBranchNotTaken(int address) {
+        return branchNotTaken.get(address & 0xFFFF);
+    }
+
+    public synchronized void merge(CoverageRecorder other) {
+        executed.or(other.executed);
+        branchTaken.or(other.branchTaken);
+        branchNotTaken.or(other.branchNotTaken);
+    }
+
+    public synchronized void clear() {
+        executed.clear();
+        branchTaken.clear();
+        branchNotTaken.clear();
+    }
+
+    // [from, to) aralığının kayıtları silinir; canlı yüklemede değişen kod için
+    public synchronized void clearRange(int from, int to) {
+        executed.clear(from, to);
+        branchTaken.clear(from, to);
+        branchNotTaken.clear(from, to);
+    }
+
+    // Ayrı süreçlerde toplanan sonuçları birleştirmek için ham bit kümeleri yazılır
+    public synchronized void writeTo(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            writeBits(out, executed);
+            writeBits(out, branchTaken);
+            writeBits(out, branchNotTaken);
+        }
+    }
+
+    public static CoverageRecorder readFrom(Path path) throws IOException {
+        CoverageRecorder recorder = new CoverageRecorder();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            recorder.executed.or(readBits(in));
+            recorder.branchTaken.or(readBits(in));
+            recorder.branchNotTaken.or(readBits(in));
+        }
+        return recorder;
+    }
+
+    private static void writeBits(DataOutputStream out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private static BitSet readBits(DataInputStream in) throws IOException {
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+}
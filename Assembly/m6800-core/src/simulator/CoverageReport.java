@@ -0,0 +1,153 @@
+package simulator;
+
+import assembler.SourceMap;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// Adres bazlı kapsam bilgisini kaynak haritası üzerinden satırlara taşır, LCOV ya da Cobertura XML yazar
+public class CoverageReport {
+
+    public static final byte LINE_NO_CODE = 0;
+    public static final byte LINE_NOT_EXECUTED = 1;
+    public static final byte LINE_EXECUTED = 2;
+    public static final byte LINE_PARTIAL_BRANCH = 3;
+
+    private final CoverageRecorder recorder;
+    private final SourceMap sourceMap;
+    private final List<String> outputLines;
+
+    public CoverageReport(CoverageRecorder recorder, SourceMap sourceMap, List<String> outputLines) {
+        this.recorder = recorder;
+        this.sourceMap = sourceMap;
+        this.outputLines = outputLines;
+    }
+
+    // Koşullu dallar $22-$2F aralığındadır (BRA ve BRN hariç)
+    private boolean isConditionalBranch(int entry) {
+        String obj = outputLines.get(sourceMap.getLine(entry));
+        if (obj.length() < 2) return false;
+        int opcode = Integer.parseInt(obj.substring(0, 2), 16);
+        return opcode >= 0x22 && opcode <= 0x2F;
+    }
+
+    // Genişletilmiş koşullu dal "ters dal + JMP" olarak kodlanır ve kısa dalın 2 baytından uzundur;
+    // kaydedilen yön ters dala aittir, kaynaktaki dalın yönü bunun tersidir
+    private boolean isRelaxed(int entry) {
+        return sourceMap.getLength(entry) > 2;
+    }
+
+    private boolean taken(int entry) {
+        int address = sourceMap.getAddress(entry);
+        return isRelaxed(entry) ? recorder.isBranchNotTaken(address) : recorder.isBranchTaken(address);
+    }
+
+    private boolean notTaken(int entry) {
+        int address = sourceMap.getAddress(entry);
+        return isRelaxed(entry) ? recorder.isBranchTaken(address) : recorder.isBranchNotTaken(address);
+    }
+
+    public byte[] lineStates(int lineCount) {
+        byte[] states = new byte[lineCount];
+        for (int i = 0; i < sourceMap.size(); i++) {
+            int line = sourceMap.getLine(i);
+            if (line < lineCount) states[line] = entryState(i);
+        }
+        return states;
+    }
+
+    // Tek bir kaynak haritası girdisinin durumu; adım adım yürütmede yalnızca değişen satır için çağrılır
+    public byte entryState(int entry) {
+        if (!recorder.isExecuted(sourceMap.getAddress(entry))) return LINE_NOT_EXECUTED;
+        if (isConditionalBranch(entry) && !(taken(entry) && notTaken(entry))) return LINE_PARTIAL_BRANCH;
+        return LINE_EXECUTED;
+    }
+
+    public void writeLcov(Writer out, String sourceName) throws IOException {
+        int linesFound = 0, linesHit = 0, branchesFound = 0, branchesHit = 0;
+
+        out.write("TN:\n");
+        out.write("SF:" + sourceName + "\n");
+        for (int i = 0; i < sourceMap.size(); i++) {
+            int address = sourceMap.getAddress(i);
+            int line = sourceMap.getLine(i) + 1;
+            boolean executed = recorder.isExecuted(address);
+
+            linesFound++;
+            if (executed) linesHit++;
+            out.write("DA:" + line + "," + (executed ? 1 : 0) + "\n");
+
+            if (!isConditionalBranch(i)) continue;
+            boolean taken = taken(i);
+            boolean notTaken = notTaken(i);
+            branchesFound += 2;
+            branchesHit += (taken ? 1 : 0) + (notTaken ? 1 : 0);
+            out.write("BRDA:" + line + ",0,0," + (executed ? (taken ? "1" : "0") : "-") + "\n");
+            out.write("BRDA:" + line + ",0,1," + (executed ? (notTaken ? "1" : "0") : "-") + "\n");
+        }
+        out.write("BRF:" + branchesFound + "\n");
+        out.write("BRH:" + branchesHit + "\n");
+        out.write("LF:" + linesFound + "\n");
+        out.write("LH:" + linesHit + "\n");
+        out.write("end_of_record\n");
+    }
+
+    public void writeCobertura(Writer out, String sourceName) throws IOException {
+        int linesFound = sourceMap.size(), linesHit = 0, branchesFound = 0, branchesHit = 0;
+        for (int i = 0; i < sourceMap.size(); i++) {
+            int address = sourceMap.getAddress(i);
+            if (recorder.isExecuted(address)) linesHit++;
+            if (isConditionalBranch(i)) {
+                branchesFound += 2;
+                branchesHit += (taken(i) ? 1 : 0) + (notTaken(i) ? 1 : 0);
+            }
+        }
+
+        String lineRate = rate(linesHit, linesFound);
+        String branchRate = rate(branchesHit, branchesFound);
+        String name = escape(sourceName);
+
+        out.write("<?xml version=\"1.0\" ?>\n");
+        out.write("<coverage line-rate=\"" + lineRate + "\" branch-rate=\"" + branchRate
+                + "\" lines-covered=\"" + linesHit + "\" lines-valid=\"" + linesFound
+                + "\" branches-covered=\"" + branchesHit + "\" branches-valid=\"" + branchesFound
+                + "\" complexity=\"0\" version=\"1\" timestamp=\"" + System.currentTimeMillis() + "\">\n");
+        out.write("  <packages>\n");
+        out.write("    <package name=\"m6800\" line-rate=\"" + lineRate + "\" branch-rate=\"" + branchRate + "\" complexity=\"0\">\n");
+        out.write("      <classes>\n");
+        out.write("        <class name=\"" + name + "\" filename=\"" + name + "\" line-rate=\"" + lineRate
+                + "\" branch-rate=\"" + branchRate + "\" complexity=\"0\">\n");
+        out.write("          <methods/>\n");
+        out.write("          <lines>\n");
+
+        for (int i = 0; i < sourceMap.size(); i++) {
+            int address = sourceMap.getAddress(i);
+            int line = sourceMap.getLine(i) + 1;
+            int hits = recorder.isExecuted(address) ? 1 : 0;
+
+            if (isConditionalBranch(i)) {
+                int covered = (taken(i) ? 1 : 0) + (notTaken(i) ? 1 : 0);
+                out.write("            <line number=\"" + line + "\" hits=\"" + hits + "\" branch=\"true\""
+                        + " condition-coverage=\"" + (covered * 50) + "% (" + covered + "/2)\"/>\n");
+            } else {
+                out.write("            <line number=\"" + line + "\" hits=\"" + hits + "\" branch=\"false\"/>\n");
+            }
+        }
+
+        out.write("          </lines>\n");
+        out.write("        </class>\n");
+        out.write("      </classes>\n");
+        out.write("    </package>\n");
+        out.write("  </packages>\n");
+        out.write("</coverage>\n");
+    }
+
+    private static String rate(int hit, int found) {
+        return found == 0 ? "1.0" : String.valueOf((double) hit / found);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,10 @@
+package simulator;
+
+// Belleğe eşlenmiş çevre birimi; okunan değerler dış dünyaya bağlı olduğundan kayıt/yeniden oynatmada günlüğe yazılır
+public interface Device {
+
+    int read(int address);
+
+    default void write(int address, int value) {
+    }
+}
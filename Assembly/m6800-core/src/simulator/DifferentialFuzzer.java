@@ -0,0 +1,492 @@
+package simulator;
+
+import assembler.CodeGenerator;
+import assembler.ObjectImage;
+import assembler.SourceMap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Rastgele assembly programları üretip CodeGenerator ile çevirir, SimulatorController ile
+// ReferenceInterpreter'ı adım adım karşılaştırır; InstructionExecutor'ın desteklediği komutlarda
+// onu da denetler. Her kaynak komutundan sonra PC, komutun kaynaktaki anlamına (dal koşulu için
+// A/B işaret ve sıfır durumu) göre beklenen etikete ulaşmalıdır; böylece uzak dal genişletmesi gibi
+// çevirici dönüşümleri de sınanır. Hata bulunduğunda vaka en küçük tekrarlanabilir örneğe indirgenir.
+//
+// Kullanım: java simulator.DifferentialFuzzer [saniye] [iş parçacığı] [tohum]
+public class DifferentialFuzzer {
+
+    private static final int CODE_BASE = 0xC000;
+    private static final int MAX_STEPS = 100;
+    private static final int MAX_RANDOM_INSTRUCTIONS = 24;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    // PAD: "BRA sonraki" ve ardından operand kadar NOP; üzerinden geçen dalları aralık dışına iter
+    private enum Kind { INH, IMM8, IMM16, DIR, IDX, REL, EXT, PAD }
+
+    private static class Op {
+        final String mnemonic;
+        final Kind kind;
+
+        Op(String mnemonic, Kind kind) {
+            this.mnemonic = mnemonic;
+            this.kind = kind;
+        }
+    }
+
+    // SimulatorController'ın yürüttüğü komutlar; ilk üçü başlangıç durumunu rastgele kurmak için kullanılır
+    private static final Op[] OPS = {
+            new Op("LDAA", Kind.IMM8),
+            new Op("LDAB", Kind.IMM8),
+            new Op("LDX", Kind.IMM16),
+            new Op("ADDA", Kind.IMM8),
+            new Op("ANDA", Kind.IMM8),
+            new Op("LDAA", Kind.DIR),
+            new Op("ADDA", Kind.DIR),
+            new Op("SUBA", Kind.DIR),
+            new Op("STAA", Kind.DIR),
+            new Op("LDAA", Kind.IDX),
+            new Op("LDAB", Kind.IDX),
+            new Op("STAA", Kind.IDX),
+            new Op("STAB", Kind.IDX),
+            new Op("JMP", Kind.EXT),
+            new Op("JSR", Kind.EXT),
+            new Op("BRA", Kind.REL),
+            new Op("BNE", Kind.REL),
+            new Op("BEQ", Kind.REL),
+            new Op("BMI", Kind.REL),
+            new Op("BPL", Kind.REL),
+            new Op("BRA", Kind.PAD),
+            new Op("INCA", Kind.INH),
+            new Op("INCB", Kind.INH),
+            new Op("INX", Kind.INH),
+            new Op("DEX", Kind.INH),
+            new Op("LSRA", Kind.INH),
+            new Op("ASLA", Kind.INH),
+            new Op("ASLB", Kind.INH),
+            new Op("ABA", Kind.INH),
+            new Op("SBA", Kind.INH),
+            new Op("TAB", Kind.INH),
+            new Op("TBA", Kind.INH),
+            new Op("CBA", Kind.INH),
+            new Op("RTS", Kind.INH),
+            new Op("SEC", Kind.INH),
+            new Op("CLC", Kind.INH),
+            new Op("NOP", Kind.INH),
+    };
+
+    // Bir fuzz vakası: komut listesi, dal hedefleri (komut indeksi; liste boyu = program sonu) ve sıfır sayfa içeriği.
+    // Komut i kaynakta "Li" etiketini taşır, program sonu "Ln" etiketidir.
+    private static class Case {
+        final int[] ops;
+        final int[] operands;
+        final int[] targets;
+        final byte[] zeroPage;
+
+        Case(int[] ops, int[] operands, int[] targets, byte[] zeroPage) {
+            this.ops = ops;
+            this.operands = operands;
+            this.targets = targets;
+            this.zeroPage = zeroPage;
+        }
+
+        Case without(int index) {
+            int n = ops.length - 1;
+            int[] newOps = new int[n];
+            int[] newOperands = new int[n];
+            int[] newTargets = new int[n];
+            for (int i = 0, j = 0; i < ops.length; i++) {
+                if (i == index) continue;
+                newOps[j] = ops[i];
+                newOperands[j] = operands[i];
+                newTargets[j] = targets[i] > index ? targets[i] - 1 : targets[i];
+                j++;
+            }
+            return new Case(newOps, newOperands, newTargets, zeroPage);
+        }
+
+        Case withOperand(int index, int value) {
+            int[] newOperands = operands.clone();
+            newOperands[index] = value;
+            return new Case(ops, newOperands, targets, zeroPage);
+        }
+
+        Case withZeroPageByte(int index, byte value) {
+            byte[] newZeroPage = zeroPage.clone();
+            newZeroPage[index] = value;
+            return new Case(ops, operands, targets, newZeroPage);
+        }
+    }
+
+    // Her iş parçacığının kendi motor örnekleri
+    private static class Engines {
+        final SimulatorController simulator = new SimulatorController();
+        final SimulatorController freeRunner = new SimulatorController();
+        final ReferenceInterpreter reference = new ReferenceInterpreter();
+        final CpuState cpuState = new CpuState();
+        final InstructionExecutor executor = new InstructionExecutor(cpuState);
+        final byte[] memorySnapshot = new byte[0x10000];
+    }
+
+    public static class Failure {
+        public final long caseSeed;
+        public final String message;
+        public final String reproducer;
+
+        Failure(long caseSeed, String message, String reproducer) {
+            this.caseSeed = caseSeed;
+            this.message = message;
+            this.reproducer = reproducer;
+        }
+    }
+
+    private final LongAdder casesRun = new LongAdder();
+    private final LongAdder stepsRun = new LongAdder();
+
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer();
+        System.out.println("Fuzz başladı: " + seconds + " sn, " + threads + " iş parçacığı, tohum " + seed);
+        Failure failure = fuzzer.run(seconds * 1000L, threads, seed);
+
+        System.out.println("Vaka: " + fuzzer.getCasesRun() + " | Adım: " + fuzzer.getStepsRun());
+        if (failure == null) {
+            System.out.println("Fark bulunamadı.");
+            return;
+        }
+
+        System.out.println("FARK (vaka tohumu " + failure.caseSeed + "): " + failure.message);
+        System.out.print(failure.reproducer);
+        System.exit(1);
+    }
+
+    public Failure run(long millis, int threads, long seed) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        AtomicReference<Failure> failure = new AtomicReference<>();
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = root.split();
+            pool.execute(() -> {
+                Engines engines = new Engines();
+                while (failure.get() == null && System.currentTimeMillis() < deadline) {
+                    for (int i = 0; i < 1024 && failure.get() == null; i++) {
+                        long caseSeed = random.nextLong();
+                        Case c = generate(new SplittableRandom(caseSeed));
+                        String message = executeSafely(c, engines);
+                        casesRun.increment();
+                        if (message != null) {
+                            Case minimal = shrink(c, engines);
+                            failure.compareAndSet(null, new Failure(caseSeed, executeSafely(minimal, engines), describe(minimal)));
+                        }
+                    }
+                }
+            });
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(millis + 60_000, TimeUnit.MILLISECONDS);
+        return failure.get();
+    }
+
+    public long getCasesRun() {
+        return casesRun.sum();
+    }
+
+    public long getStepsRun() {
+        return stepsRun.sum();
+    }
+
+    private static Case generate(SplittableRandom random) {
+        int n = 3 + random.nextInt(MAX_RANDOM_INSTRUCTIONS);
+        int[] ops = new int[n];
+        int[] operands = new int[n];
+        int[] targets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            ops[i] = i < 3 ? i : 3 + random.nextInt(OPS.length - 3);
+            Op op = OPS[ops[i]];
+            operands[i] = op.kind == Kind.IMM16 ? random.nextInt(0x10000) : random.nextInt(0x100);
+            // PAD bloklarının üzerinden geçen hedefler göreli dal aralığını aşabilir; çevirici bunları genişletir
+            targets[i] = (op.kind == Kind.REL || op.kind == Kind.EXT) ? random.nextInt(n + 1) : -1;
+        }
+
+        byte[] zeroPage = new byte[0x100];
+        for (int i = 0; i < zeroPage.length; i++) {
+            zeroPage[i] = (byte) random.nextInt(0x100);
+        }
+        return new Case(ops, operands, targets, zeroPage);
+    }
+
+    // unitLines[i] komut i'nin kaynak satırını alır
+    private static List<String> source(Case c, int[] unitLines) {
+        List<String> lines = new ArrayList<>();
+        lines.add("        ORG $" + Integer.toHexString(CODE_BASE).toUpperCase());
+
+        for (int i = 0; i < c.ops.length; i++) {
+            Op op = OPS[c.ops[i]];
+            int operand = c.operands[i];
+            String text = switch (op.kind) {
+                case INH -> op.mnemonic;
+                case IMM8 -> String.format("%s #$%02X", op.mnemonic, operand);
+                case IMM16 -> String.format("%s #$%04X", op.mnemonic, operand);
+                case DIR -> String.format("%s $%02X", op.mnemonic, operand);
+                case IDX -> String.format("%s $%02X,X", op.mnemonic, operand);
+                case REL, EXT -> op.mnemonic + " L" + c.targets[i];
+                case PAD -> op.mnemonic + " L" + (i + 1);
+            };
+            unitLines[i] = lines.size();
+            lines.add(String.format("%-7s %s", "L" + i, text));
+            if (op.kind == Kind.PAD) {
+                for (int k = 0; k < operand; k++) lines.add("        NOP");
+            }
+        }
+
+        lines.add("L" + c.ops.length);
+        return lines;
+    }
+
+    // Kaynaktaki anlamına göre komut u'dan sonra yürütülecek komutun indeksi; koşullar simülatörün
+    // modelini izler (BNE/BEQ B'ye, BMI/BPL A'nın 7. bitine bakar, RTS dönüş adresi tutmaz)
+    private static int successor(Case c, int u, int a, int b) {
+        Op op = OPS[c.ops[u]];
+        if (op.kind != Kind.REL && op.kind != Kind.EXT) return u + 1;
+
+        boolean taken = switch (op.mnemonic) {
+            case "BNE" -> b != 0;
+            case "BEQ" -> b == 0;
+            case "BMI" -> (a & 0x80) != 0;
+            case "BPL" -> (a & 0x80) == 0;
+            default -> true;
+        };
+        return taken ? c.targets[u] : u + 1;
+    }
+
+    // Motorlardan birinin attığı istisna da fark olarak raporlanır
+    private String executeSafely(Case c, Engines engines) {
+        try {
+            return execute(c, engines);
+        } catch (RuntimeException e) {
+            return "İstisna: " + e;
+        }
+    }
+
+    // Fark yoksa null, varsa açıklamasını döner
+    private String execute(Case c, Engines engines) {
+        int n = c.ops.length;
+        int[] unitLines = new int[n];
+        List<String> source = source(c, unitLines);
+
+        CodeGenerator generator = new CodeGenerator(source);
+        generator.firstPass();
+        generator.secondPass();
+        List<String> output = generator.getOutputLines();
+        for (int i = 0; i < output.size(); i++) {
+            if (output.get(i).startsWith("HATA")) return "Çevirici, satır " + (i + 1) + ": " + output.get(i);
+        }
+
+        SourceMap sourceMap = generator.getSourceMap();
+        ObjectImage image = generator.buildObjectImage();
+        // Kaynak ORG ile CODE_BASE'den başlar; boş programın imajı taban adres taşımaz
+        int codeEnd = CODE_BASE + image.size();
+
+        int[] lineAddresses = new int[source.size()];
+        int[] instructionStarts = new int[sourceMap.size()];
+        for (int i = 0; i < sourceMap.size(); i++) {
+            lineAddresses[sourceMap.getLine(i)] = sourceMap.getAddress(i);
+            instructionStarts[i] = sourceMap.getAddress(i);
+        }
+        int[] unitStarts = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            unitStarts[i] = lineAddresses[unitLines[i]];
+        }
+        unitStarts[n] = codeEnd;
+
+        SimulatorController simulator = engines.simulator;
+        ReferenceInterpreter reference = engines.reference;
+        String text = String.join("\n", output);
+        simulator.load(text, sourceMap);
+        simulator.loadMemoryImage(ByteBuffer.wrap(c.zeroPage), 0x0000);
+        reference.load(image.getBytes(), CODE_BASE, instructionStarts);
+        System.arraycopy(c.zeroPage, 0, reference.memory, 0, c.zeroPage.length);
+
+        // Yürütülmekte olan kaynak komutu ve bittiğinde PC'nin ulaşması gereken adres;
+        // program kendi kodunun üzerine yazarsa kaynak anlamı geçersizleşir ve bu denetim bırakılır
+        boolean followSource = true;
+        int unit = -1;
+        int expectedPc = 0;
+        int unitA = 0, unitB = 0;
+
+        int steps = 0;
+        for (int step = 0; step < MAX_STEPS; step++, steps++) {
+            boolean running = reference.isRunning();
+            if (simulator.hasNextStep() != running) {
+                return "Adım " + step + ": çalışma durumu farklı (referans " + running + ")";
+            }
+            if (!running) break;
+
+            int pcBefore = reference.pc;
+            if (followSource && unit < 0) {
+                int u = Arrays.binarySearch(unitStarts, 0, n, pcBefore);
+                if (u >= 0) {
+                    unit = u;
+                    unitA = reference.a;
+                    unitB = reference.b;
+                    expectedPc = unitStarts[successor(c, u, unitA, unitB)];
+                }
+            }
+            int opcode = reference.memory[pcBefore] & 0xFF;
+            int operand = reference.memory[(pcBefore + 1) & 0xFFFF] & 0xFF;
+            engines.cpuState.registerA = reference.a;
+            engines.cpuState.registerB = reference.b;
+
+            simulator.step();
+            reference.step();
+            stepsRun.increment();
+
+            if (simulator.getA() != reference.a || simulator.getB() != reference.b
+                    || simulator.getX() != reference.x || simulator.getPC() != reference.pc) {
+                return String.format("Adım %d ($%04X, opcode %02X): simülatör A=%02X B=%02X X=%04X PC=%04X,"
+                                + " referans A=%02X B=%02X X=%04X PC=%04X", step, pcBefore, opcode,
+                        simulator.getA(), simulator.getB(), simulator.getX(), simulator.getPC(),
+                        reference.a, reference.b, reference.x, reference.pc);
+            }
+
+            int written = reference.lastWrite;
+            if (written >= 0 && simulator.peek(written) != (reference.memory[written] & 0xFF)) {
+                return String.format("Adım %d ($%04X, opcode %02X): [$%04X] simülatör %02X, referans %02X",
+                        step, pcBefore, opcode, written, simulator.peek(written),
+                        reference.memory[written] & 0xFF);
+            }
+
+            String executorMismatch = checkExecutor(engines, opcode, operand, reference);
+            if (executorMismatch != null) {
+                return "Adım " + step + String.format(" ($%04X): ", pcBefore) + executorMismatch;
+            }
+
+            if (written >= CODE_BASE && written < codeEnd) {
+                followSource = false;
+                unit = -1;
+            }
+            // Genişletilmiş dal gibi çok komutlu kodlamalarda PC komutun içinde kaldıkça adım sürer
+            int pc = simulator.getPC();
+            if (unit >= 0 && (pc <= unitStarts[unit] || pc >= unitStarts[unit + 1])) {
+                if (pc != expectedPc) {
+                    return String.format("Adım %d: L%d (%s) sonrası PC=$%04X, kaynağa göre beklenen $%04X (A=%02X B=%02X)",
+                            step, unit, source.get(unitLines[unit]).substring(8), pc, expectedPc, unitA, unitB);
+                }
+                unit = -1;
+            }
+        }
+
+        byte[] snapshot = engines.memorySnapshot;
+        simulator.readMemory(0, snapshot, 0, snapshot.length);
+        if (!Arrays.equals(snapshot, reference.memory)) {
+            return "Çalışma sonunda bellek içeriği farklı";
+        }
+
+        // Günlüksüz run() yolu aynı sayıda komut sonunda aynı duruma ulaşmalı
+        SimulatorController freeRunner = engines.freeRunner;
+        freeRunner.load(text, sourceMap);
+        freeRunner.loadMemoryImage(ByteBuffer.wrap(c.zeroPage), 0x0000);
+        freeRunner.run(steps, pc -> false);
+        freeRunner.readMemory(0, snapshot, 0, snapshot.length);
+        if (freeRunner.getA() != reference.a || freeRunner.getB() != reference.b
+                || freeRunner.getX() != reference.x || freeRunner.getPC() != reference.pc
+                || !Arrays.equals(snapshot, reference.memory)) {
+            return String.format("run() %d komut sonunda: A=%02X B=%02X X=%04X PC=%04X, referans A=%02X B=%02X X=%04X PC=%04X",
+                    steps, freeRunner.getA(), freeRunner.getB(), freeRunner.getX(), freeRunner.getPC(),
+                    reference.a, reference.b, reference.x, reference.pc);
+        }
+        return null;
+    }
+
+    // InstructionExecutor yalnızca birkaç komutu yürütür; onlar için A/B sonuçları karşılaştırılır
+    private static String checkExecutor(Engines engines, int opcode, int operand, ReferenceInterpreter reference) {
+        switch (opcode) {
+            case 0x86, 0xC6, 0x4C, 0x5C, 0x8B -> {
+                StringBuilder hex = new StringBuilder(4);
+                appendHex(hex, opcode);
+                String opcodeText = hex.toString();
+                hex.setLength(0);
+                appendHex(hex, operand);
+                engines.executor.execute(opcodeText, hex.toString());
+            }
+            default -> {
+                return null;
+            }
+        }
+
+        CpuState state = engines.cpuState;
+        if (state.registerA != reference.a || state.registerB != reference.b) {
+            return String.format("InstructionExecutor A=%02X B=%02X, referans A=%02X B=%02X",
+                    state.registerA, state.registerB, reference.a, reference.b);
+        }
+        return null;
+    }
+
+    // Açgözlü indirgeme: komut silme, operandları sıfırlama ve sıfır sayfayı temizleme, ilerleme kalmayana dek
+    private Case shrink(Case failing, Engines engines) {
+        Case current = failing;
+        boolean progress = true;
+
+        while (progress) {
+            progress = false;
+
+            for (int i = 0; i < current.ops.length && !progress; i++) {
+                Case candidate = current.without(i);
+                if (executeSafely(candidate, engines) != null) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+
+            for (int i = 0; i < current.ops.length && !progress; i++) {
+                if (current.operands[i] == 0) continue;
+                Case candidate = current.withOperand(i, 0);
+                if (executeSafely(candidate, engines) != null) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+
+            for (int i = 0; i < current.zeroPage.length && !progress; i++) {
+                if (current.zeroPage[i] == 0) continue;
+                Case candidate = current.withZeroPageByte(i, (byte) 0);
+                if (executeSafely(candidate, engines) != null) {
+                    current = candidate;
+                    progress = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String describe(Case c) {
+        StringBuilder out = new StringBuilder();
+        for (String line : source(c, new int[c.ops.length])) {
+            out.append(line).append('\n');
+        }
+
+        for (int i = 0; i < c.zeroPage.length; i++) {
+            if (c.zeroPage[i] != 0) out.append(String.format("[$%04X] = %02X%n", i, c.zeroPage[i] & 0xFF));
+        }
+        return out.toString();
+    }
+
+    private static void appendHex(StringBuilder out, int value) {
+        out.append(HEX[(value >> 4) & 0xF]).append(HEX[value & 0xF]);
+    }
+}
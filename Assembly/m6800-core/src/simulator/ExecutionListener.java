@@ -0,0 +1,13 @@
+package simulator;
+
+// Gömülü kullanım için yürütme geri çağrıları; simülatörün iş parçacığında, komut yürütüldükten sonra çağrılır.
+// Parametreler ilkel tiptedir, komut başına nesne üretilmez.
+public interface ExecutionListener {
+
+    // pc: yürütülen komutun adresi
+    default void afterStep(int pc, int opcode) {
+    }
+
+    default void runFinished(RunResult result) {
+    }
+}
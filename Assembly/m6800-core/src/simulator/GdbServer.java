@@ -0,0 +1,440 @@
+package simulator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// GDB uzak seri protokolü (RSP) sunucusu; yerel TCP ya da Unix soketi üzerinden simülatörü dışarı açar.
+// 'g' paketindeki kayıt düzeni (büyük endian): A(8) B(8) CC(8) X(16) SP(16) PC(16).
+// CC ve SP simülatörde modellenmediğinden 0 okunur, yazılan değerler yok sayılır.
+// continue sırasında hedef kendi iş parçacığında günlüksüz run() ile çalışır; 0x03 ile durdurulur.
+// Hedef çalışırken gelen paketler sıraya alınır ve durma yanıtından sonra geliş sırasıyla yanıtlanır.
+// Çözümlenemeyen paket alanları bağlantıyı düşürmez, E01 ile yanıtlanır.
+//
+// Komut satırından: cli.Main gdb <kaynak.asm> [port | unix:/soket/yolu]
+public class GdbServer implements Closeable {
+
+    private static final int PACKET_SIZE = 0x4000;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final SimulatorController simulator;
+    private final ServerSocketChannel server;
+    private final ExecutorService target = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "gdb-hedef");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final BitSet breakpoints = new BitSet(0x10000);
+    private final BitSet readWatch = new BitSet(0x10000);
+    private final BitSet writeWatch = new BitSet(0x10000);
+    private final Object sendLock = new Object();
+    // Paket işleme ile hedefin durması arasındaki sırayı korur; pending yalnızca bu kilitle erişilir
+    private final Object dispatchLock = new Object();
+    private final Queue<String> pending = new ArrayDeque<>();
+
+    private volatile boolean stopRequested;
+    private volatile boolean running;
+    private SocketChannel client;
+    private boolean noAck;
+
+    private GdbServer(SimulatorController simulator, ServerSocketChannel server) {
+        this.simulator = simulator;
+        this.server = server;
+    }
+
+    public static GdbServer tcp(SimulatorController simulator, int port) throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        return new GdbServer(simulator, server);
+    }
+
+    public static GdbServer unix(SimulatorController simulator, Path socketPath) throws IOException {
+        Files.deleteIfExists(socketPath);
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        return new GdbServer(simulator, server);
+    }
+
+    // Bağlantıları sırayla kabul eder; sunucu kapatılana kadar döner
+    public void serve() throws IOException {
+        while (server.isOpen()) {
+            try (SocketChannel channel = server.accept()) {
+                client = channel;
+                noAck = false;
+                handle(channel);
+            } finally {
+                stopRequested = true;
+                client = null;
+                synchronized (dispatchLock) {
+                    pending.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stopRequested = true;
+        target.shutdownNow();
+        server.close();
+    }
+
+    private void handle(SocketChannel channel) throws IOException {
+        ByteBuffer input = ByteBuffer.allocate(PACKET_SIZE * 2);
+        byte[] packet = new byte[PACKET_SIZE * 2];
+        int packetLength = -1;
+        int checksumDigits = 0;
+
+        while (channel.read(input) >= 0) {
+            input.flip();
+            while (input.hasRemaining()) {
+                byte c = input.get();
+
+                if (packetLength < 0) {
+                    if (c == 0x03) {
+                        stopRequested = true;
+                    } else if (c == '$') {
+                        packetLength = 0;
+                        checksumDigits = -1;
+                    }
+                    continue;
+                }
+
+                if (checksumDigits < 0) {
+                    if (c == '#') {
+                        checksumDigits = 0;
+                    } else if (packetLength < packet.length) {
+                        packet[packetLength++] = c;
+                    }
+                    continue;
+                }
+
+                // Sağlama toplamı TCP/Unix soketinde zaten güvence altında; yalnızca iki hanesi tüketilir
+                if (++checksumDigits == 2) {
+                    if (!noAck) write(channel, new byte[]{'+'});
+                    process(new String(packet, 0, packetLength, StandardCharsets.ISO_8859_1));
+                    packetLength = -1;
+                    if (!channel.isOpen()) return;
+                }
+            }
+            input.clear();
+        }
+    }
+
+    private void process(String command) throws IOException {
+        synchronized (dispatchLock) {
+            if (running) {
+                pending.add(command);
+                return;
+            }
+            String reply = reply(command);
+            if (reply != null) send(reply);
+        }
+    }
+
+    // Paket alanı eksik ya da onaltılık değilse E01
+    private String reply(String command) throws IOException {
+        try {
+            return dispatch(command);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return "E01";
+        }
+    }
+
+    // Yanıt hemen gönderilmeyecekse (continue) null döner
+    private String dispatch(String command) throws IOException {
+        if (command.isEmpty()) return "";
+
+        switch (command.charAt(0)) {
+            case '?':
+                return "S05";
+            case 'g':
+                return readRegisters();
+            case 'G':
+                writeRegisters(command.substring(1));
+                return "OK";
+            case 'p':
+                return readRegister(Integer.parseInt(command.substring(1), 16));
+            case 'P': {
+                int eq = command.indexOf('=');
+                writeRegister(Integer.parseInt(command.substring(1, eq), 16), command.substring(eq + 1));
+                return "OK";
+            }
+            case 'm':
+                return readMemory(command.substring(1));
+            case 'M':
+                return writeMemoryHex(command.substring(1));
+            case 'X':
+                return writeMemoryBinary(command.substring(1));
+            case 'c':
+                if (command.length() > 1) simulator.setPC(Integer.parseInt(command.substring(1), 16));
+                resume();
+                return null;
+            case 's':
+                if (command.length() > 1) simulator.setPC(Integer.parseInt(command.substring(1), 16));
+                simulator.setWatchpoints(readWatch.isEmpty() ? null : readWatch, writeWatch.isEmpty() ? null : writeWatch);
+                simulator.run(1, pc -> false);
+                return stopReply();
+            case 'Z':
+            case 'z':
+                return updatePoint(command.charAt(0) == 'Z', command.substring(1));
+            case 'H':
+                return "OK";
+            case 'k':
+                closeClient();
+                return null;
+            case 'D':
+                send("OK");
+                closeClient();
+                return null;
+            case 'q':
+            case 'Q':
+                return query(command);
+            default:
+                return "";
+        }
+    }
+
+    // Sıradaki paketler bağlantı koptuktan sonra işlenebilir
+    private void closeClient() throws IOException {
+        SocketChannel channel = client;
+        if (channel != null) channel.close();
+    }
+
+    private String query(String command) {
+        if (command.startsWith("qSupported")) {
+            return "PacketSize=" + Integer.toHexString(PACKET_SIZE) + ";QStartNoAckMode+;swbreak+;hwbreak+";
+        }
+        if (command.equals("QStartNoAckMode")) {
+            noAck = true;
+            return "OK";
+        }
+        if (command.equals("qAttached")) return "1";
+        if (command.equals("qfThreadInfo")) return "m1";
+        if (command.equals("qsThreadInfo")) return "l";
+        if (command.equals("qC")) return "QC1";
+        if (command.equals("qOffsets")) return "Text=0;Data=0;Bss=0";
+        return "";
+    }
+
+    // continue: hedef ayrı iş parçacığında serbest çalışır, durunca durma yanıtını kendisi gönderir
+    private void resume() {
+        stopRequested = false;
+        running = true;
+        simulator.setWatchpoints(readWatch.isEmpty() ? null : readWatch, writeWatch.isEmpty() ? null : writeWatch);
+
+        target.execute(() -> {
+            // Üzerinde durulan kesme noktası yeniden tetiklenmesin diye ilk komut koşulsuz yürütülür
+            RunResult first = simulator.run(1, pc -> false);
+            if (first.instructions > 0 && first.stopReason != StopReason.WATCHPOINT) {
+                simulator.run(Long.MAX_VALUE, pc -> stopRequested || breakpoints.get(pc));
+            }
+            synchronized (dispatchLock) {
+                running = false;
+                try {
+                    send(stopReply());
+                    // Sıradaki paketlerden biri yeniden continue ise kalanlar bir sonraki durmayı bekler
+                    while (!running && !pending.isEmpty()) {
+                        String reply = reply(pending.poll());
+                        if (reply != null) send(reply);
+                    }
+                } catch (IOException ignored) {
+                    // bağlantı kapandıysa bildirilecek kimse yok
+                    pending.clear();
+                }
+            }
+        });
+    }
+
+    private String stopReply() {
+        int watch = simulator.getWatchHit();
+        if (watch >= 0) {
+            boolean write = simulator.isWatchHitWrite();
+            boolean access = readWatch.get(watch) && writeWatch.get(watch);
+            String kind = access ? "awatch" : (write ? "watch" : "rwatch");
+            return "T05" + kind + ":" + Integer.toHexString(watch) + ";";
+        }
+        if (!simulator.hasNextStep()) return "W00";
+        if (stopRequested) return "S02";
+        if (breakpoints.get(simulator.getPC())) return "T05swbreak:;";
+        return "S05";
+    }
+
+    // Z0/Z1 kesme noktası, Z2 yazma, Z3 okuma, Z4 erişim izleme noktası
+    private String updatePoint(boolean insert, String args) {
+        String[] parts = args.split(",");
+        int type = Integer.parseInt(parts[0]);
+        int address = Integer.parseInt(parts[1], 16) & 0xFFFF;
+        int length = Math.max(1, Integer.parseInt(parts[2], 16));
+        int end = Math.min(0x10000, address + length);
+
+        switch (type) {
+            case 0, 1 -> breakpoints.set(address, insert);
+            case 2 -> writeWatch.set(address, end, insert);
+            case 3 -> readWatch.set(address, end, insert);
+            case 4 -> {
+                readWatch.set(address, end, insert);
+                writeWatch.set(address, end, insert);
+            }
+            default -> {
+                return "";
+            }
+        }
+        return "OK";
+    }
+
+    private String readRegisters() {
+        StringBuilder out = new StringBuilder(18);
+        appendHex(out, simulator.getA(), 1);
+        appendHex(out, simulator.getB(), 1);
+        appendHex(out, 0, 1);
+        appendHex(out, simulator.getX(), 2);
+        appendHex(out, 0, 2);
+        appendHex(out, simulator.getPC(), 2);
+        return out.toString();
+    }
+
+    // Tüm alanlar yazılmadan önce çözülür; bozuk paket kayıtları yarım bırakmaz
+    private void writeRegisters(String hex) {
+        int a = Integer.parseInt(hex.substring(0, 2), 16);
+        int b = Integer.parseInt(hex.substring(2, 4), 16);
+        int x = Integer.parseInt(hex.substring(6, 10), 16);
+        int pc = Integer.parseInt(hex.substring(14, 18), 16);
+        simulator.setA(a);
+        simulator.setB(b);
+        simulator.setX(x);
+        simulator.setPC(pc);
+    }
+
+    private String readRegister(int index) {
+        StringBuilder out = new StringBuilder(4);
+        switch (index) {
+            case 0 -> appendHex(out, simulator.getA(), 1);
+            case 1 -> appendHex(out, simulator.getB(), 1);
+            case 2 -> appendHex(out, 0, 1);
+            case 3 -> appendHex(out, simulator.getX(), 2);
+            case 4 -> appendHex(out, 0, 2);
+            case 5 -> appendHex(out, simulator.getPC(), 2);
+            default -> {
+                return "E01";
+            }
+        }
+        return out.toString();
+    }
+
+    private void writeRegister(int index, String hex) {
+        int value = Integer.parseInt(hex, 16);
+        switch (index) {
+            case 0 -> simulator.setA(value);
+            case 1 -> simulator.setB(value);
+            case 3 -> simulator.setX(value);
+            case 5 -> simulator.setPC(value);
+            default -> {
+                // CC ve SP modellenmiyor
+            }
+        }
+    }
+
+    // Uzunluk paket boyutuna sığacak şekilde kırpılır; GDB kalan kısmı bir sonraki pakette ister
+    private String readMemory(String args) {
+        int comma = args.indexOf(',');
+        int address = Integer.parseInt(args.substring(0, comma), 16);
+        int length = Math.min(parseLength(args.substring(comma + 1)), (PACKET_SIZE - 4) / 2);
+
+        byte[] bytes = new byte[length];
+        simulator.readMemory(address, bytes, 0, length);
+
+        char[] out = new char[length * 2];
+        for (int i = 0; i < length; i++) {
+            out[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            out[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(out);
+    }
+
+    private String writeMemoryHex(String args) {
+        int comma = args.indexOf(',');
+        int colon = args.indexOf(':');
+        int address = Integer.parseInt(args.substring(0, comma), 16);
+        int length = parseLength(args.substring(comma + 1, colon));
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) Integer.parseInt(args.substring(colon + 1 + i * 2, colon + 3 + i * 2), 16);
+        }
+        simulator.writeMemory(address, bytes, 0, length);
+        return "OK";
+    }
+
+    // İkili veri: 0x7D kaçış baytıdır, ardından gelen bayt 0x20 ile XOR'lanır
+    private String writeMemoryBinary(String args) {
+        int comma = args.indexOf(',');
+        int colon = args.indexOf(':');
+        int address = Integer.parseInt(args.substring(0, comma), 16);
+        int length = parseLength(args.substring(comma + 1, colon));
+
+        byte[] bytes = new byte[length];
+        int count = 0;
+        for (int i = colon + 1; i < args.length() && count < length; i++) {
+            char c = args.charAt(i);
+            bytes[count++] = (byte) (c == 0x7D ? args.charAt(++i) ^ 0x20 : c);
+        }
+        simulator.writeMemory(address, bytes, 0, count);
+        return "OK";
+    }
+
+    // Bellek uzunluğu 64 KB'ı aşamaz; negatif ya da büyük değer paketi geçersiz kılar
+    private static int parseLength(String hex) {
+        int length = Integer.parseInt(hex, 16);
+        if (length < 0 || length > 0x10000) throw new NumberFormatException("Geçersiz uzunluk: " + hex);
+        return length;
+    }
+
+    private void send(String payload) throws IOException {
+        SocketChannel channel = client;
+        if (channel == null || !channel.isOpen()) return;
+
+        byte[] data = payload.getBytes(StandardCharsets.ISO_8859_1);
+        byte[] frame = new byte[data.length + 4];
+        int checksum = 0;
+        frame[0] = '$';
+        for (int i = 0; i < data.length; i++) {
+            frame[i + 1] = data[i];
+            checksum += data[i] & 0xFF;
+        }
+        frame[data.length + 1] = '#';
+        frame[data.length + 2] = (byte) HEX[(checksum >> 4) & 0xF];
+        frame[data.length + 3] = (byte) HEX[checksum & 0xF];
+        write(channel, frame);
+    }
+
+    private void write(SocketChannel channel, byte[] data) throws IOException {
+        synchronized (sendLock) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void appendHex(StringBuilder out, int value, int bytes) {
+        for (int shift = bytes * 8 - 4; shift >= 0; shift -= 4) {
+            out.append(HEX[(value >> shift) & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package simulator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+// Bellek görüntüsünü "AAAA: XX XX ..." satırlarına çevirir. Satır tamponu yeniden kullanıldığı için
+// bir örnek aynı anda tek bir iş parçacığından kullanılmalıdır.
+public class HexDumpFormatter {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final int BYTES_PER_ROW = 16;
+    private static final int ROW_LENGTH = 6 + BYTES_PER_ROW * 3 + 1;
+
+    private final char[] row = new char[ROW_LENGTH];
+
+    // image'in ilk baytı baseAddress adresine karşılık gelir; [start, end) adres aralığı yazılır
+    public void write(ByteBuffer image, int baseAddress, int start, int end, Writer out) throws IOException {
+        for (int address = start; address < end; address += BYTES_PER_ROW) {
+            out.write(row, 0, fillRow(image, baseAddress, address, end));
+        }
+    }
+
+    public void write(byte[] image, int baseAddress, int start, int end, Writer out) throws IOException {
+        write(ByteBuffer.wrap(image), baseAddress, start, end, out);
+    }
+
+    public String format(byte[] image, int baseAddress, int start, int end) {
+        ByteBuffer buffer = ByteBuffer.wrap(image);
+        int rows = Math.max(0, (end - start + BYTES_PER_ROW - 1) / BYTES_PER_ROW);
+        StringBuilder builder = new StringBuilder(rows * ROW_LENGTH);
+
+        for (int address = start; address < end; address += BYTES_PER_ROW) {
+            builder.append(row, 0, fillRow(buffer, baseAddress, address, end));
+        }
+        return builder.toString();
+    }
+
+    public String format(byte[] image, int baseAddress) {
+        return format(image, baseAddress, baseAddress, baseAddress + image.length);
+    }
+
+    private int fillRow(ByteBuffer image, int baseAddress, int rowAddress, int end) {
+        int pos = 0;
+        row[pos++] = HEX[(rowAddress >> 12) & 0xF];
+        row[pos++] = HEX[(rowAddress >> 8) & 0xF];
+        row[pos++] = HEX[(rowAddress >> 4) & 0xF];
+        row[pos++] = HEX[rowAddress & 0xF];
+        row[pos++] = ':';
+        row[pos++] = ' ';
+
+        for (int i = 0; i < BYTES_PER_ROW; i++) {
+            int index = rowAddress + i - baseAddress;
+            if (rowAddress + i < end && index >= 0 && index < image.limit()) {
+                int value = image.get(index) & 0xFF;
+                row[pos++] = HEX[value >> 4];
+                row[pos++] = HEX[value & 0xF];
+            } else {
+                row[pos++] = ' ';
+                row[pos++] = ' ';
+            }
+            row[pos++] = ' ';
+        }
+
+        row[pos++] = '\n';
+        return pos;
+    }
+}
@@ -0,0 +1,46 @@
+package simulator;
+
+import java.nio.ByteBuffer;
+
+// Girdi günlüğü biçimi: "M68R" + sürüm + kontrol noktası aralığı, ardından kayıtlar.
+// Her kayıt: tür (1 bayt) + önceki kayda göre komut sayısı farkı (varint) + türe özgü içerik.
+// Zaman damgası yürütülen komut sayısıdır; çevrim sayısı bundan belirlenimci olarak türetilir
+// ama tanımsız opcode'lar 0 çevrim sürdüğü için tek başına sıralamayı belirleyemez.
+final class InputLogFormat {
+
+    static final int MAGIC = 0x4D363852;
+    static final byte VERSION = 1;
+
+    static final byte DEVICE_READ = 1;   // adres (varint), değer (1 bayt)
+    static final byte MEMORY_WRITE = 2;  // adres (varint), uzunluk (varint), baytlar
+    static final byte REGISTER = 3;      // kayıt no (1 bayt), değer (varint)
+    static final byte CHECKPOINT = 4;    // mutlak komut sayısı (varint), A, B, X, PC, sıkıştırılmış bellek uzunluğu (varint), bellek
+
+    static final int REG_A = 0;
+    static final int REG_B = 1;
+    static final int REG_X = 2;
+    static final int REG_PC = 3;
+
+    private InputLogFormat() {
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -0,0 +1,168 @@
+package simulator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+// Belirlenimci olmayan girdileri (aygıt okumaları, dışarıdan bellek/kayıt yazımları) günlüğe yazar.
+// Kayıtlar simülatör iş parçacığında tampona kodlanır; dolan tampon ayrı bir iş parçacığında diske yazılırken
+// ikinci tampona geçilir. Yazıcı geride kalırsa simülatör boş tampon bekler.
+public class InputRecorder implements Closeable {
+
+    // En büyük kayıt (64 KB bellek yazımı ya da kontrol noktası) tek tampona sığmalı
+    private static final int BUFFER_SIZE = 1 << 18;
+
+    private final FileChannel channel;
+    private final long checkpointInterval;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "girdi-kaydı");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(2);
+    private ByteBuffer buffer;
+    private volatile IOException failure;
+
+    private long lastTime;
+    private long nextCheckpoint;
+
+    private final byte[] snapshot = new byte[0x10000];
+    private final byte[] compressed = new byte[0x10000 + 1024];
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private InputRecorder(FileChannel channel, long checkpointInterval) {
+        this.channel = channel;
+        this.checkpointInterval = checkpointInterval;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        free.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+
+    // checkpointInterval: kaç komutta bir tam durum kaydedileceği; 0 ise yalnızca başta ve sonda
+    public static InputRecorder open(Path path, long checkpointInterval) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        InputRecorder recorder = new InputRecorder(channel, checkpointInterval);
+        recorder.buffer.putInt(InputLogFormat.MAGIC);
+        recorder.buffer.put(InputLogFormat.VERSION);
+        InputLogFormat.putVarLong(recorder.buffer, checkpointInterval);
+        return recorder;
+    }
+
+    void beforeInstruction(SimulatorController simulator, long time) {
+        if (checkpointInterval > 0 && time >= nextCheckpoint) {
+            checkpoint(simulator, time);
+        }
+    }
+
+    void deviceRead(long time, int address, int value) {
+        ensure(24);
+        header(InputLogFormat.DEVICE_READ, time);
+        InputLogFormat.putVarLong(buffer, address);
+        buffer.put((byte) value);
+    }
+
+    void memoryWrite(long time, int address, byte[] source, int offset, int length) {
+        ensure(32 + length);
+        header(InputLogFormat.MEMORY_WRITE, time);
+        InputLogFormat.putVarLong(buffer, address);
+        InputLogFormat.putVarLong(buffer, length);
+        buffer.put(source, offset, length);
+    }
+
+    void registerWrite(long time, int register, int value) {
+        ensure(24);
+        header(InputLogFormat.REGISTER, time);
+        buffer.put((byte) register);
+        InputLogFormat.putVarLong(buffer, value);
+    }
+
+    void checkpoint(SimulatorController simulator, long time) {
+        simulator.readMemory(0, snapshot, 0, snapshot.length);
+        deflater.reset();
+        deflater.setInput(snapshot);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+
+        ensure(48 + length);
+        header(InputLogFormat.CHECKPOINT, time);
+        InputLogFormat.putVarLong(buffer, time);
+        buffer.put((byte) simulator.getA());
+        buffer.put((byte) simulator.getB());
+        buffer.putShort((short) simulator.getX());
+        buffer.putShort((short) simulator.getPC());
+        InputLogFormat.putVarLong(buffer, length);
+        buffer.put(compressed, 0, length);
+        nextCheckpoint = time + checkpointInterval;
+    }
+
+    private void header(byte type, long time) {
+        buffer.put(type);
+        InputLogFormat.putVarLong(buffer, time - lastTime);
+        lastTime = time;
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (failure != null) throw new UncheckedIOException(failure);
+
+        ByteBuffer full = buffer;
+        try {
+            buffer = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Girdi kaydı kesildi"));
+        }
+
+        full.flip();
+        writer.execute(() -> {
+            try {
+                while (full.hasRemaining()) {
+                    channel.write(full);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+            full.clear();
+            free.add(full);
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            writer.shutdown();
+            if (!writer.awaitTermination(1, TimeUnit.MINUTES)) {
+                throw new IOException("Girdi kaydı diske yazılamadı (zaman aşımı)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Girdi kaydı kesildi");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            deflater.end();
+            channel.close();
+        }
+        if (failure != null) throw failure;
+    }
+}
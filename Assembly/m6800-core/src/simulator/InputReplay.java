@@ -0,0 +1,239 @@
+package simulator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// InputRecorder günlüğünü simülatöre geri besler. Dışarıdan yazımlar kaydedildikleri komuttan önce uygulanır,
+// aygıt okumaları günlükteki değerle yanıtlanır. Kontrol noktalarına geçilebilir; geçilen kontrol noktalarında
+// kayıtlar karşılaştırılır ve ayrışma IllegalStateException ile bildirilir.
+public class InputReplay {
+
+    private static final int END = -1;
+
+    private final MappedByteBuffer log;
+    private final long checkpointInterval;
+    private final int[] checkpointOffsets;
+    private final long[] checkpointTimes;
+
+    private int nextType = END;
+    private long nextTime;
+    private long lastTime;
+
+    private final byte[] scratch = new byte[0x10000];
+    private final Inflater inflater = new Inflater();
+
+    private InputReplay(MappedByteBuffer log, long checkpointInterval, int[] checkpointOffsets, long[] checkpointTimes) {
+        this.log = log;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpointOffsets = checkpointOffsets;
+        this.checkpointTimes = checkpointTimes;
+    }
+
+    // Günlük bir kez taranarak kontrol noktalarının konumları çıkarılır
+    public static InputReplay open(Path path) throws IOException {
+        MappedByteBuffer log;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (log.remaining() < 5 || log.getInt() != InputLogFormat.MAGIC) {
+            throw new IOException("Girdi günlüğü değil: " + path);
+        }
+        if (log.get() != InputLogFormat.VERSION) {
+            throw new IOException("Desteklenmeyen girdi günlüğü sürümü: " + path);
+        }
+        long interval = InputLogFormat.getVarLong(log);
+        int recordsStart = log.position();
+
+        int[] offsets = new int[16];
+        long[] times = new long[16];
+        int count = 0;
+        while (log.hasRemaining()) {
+            int offset = log.position();
+            byte type = log.get();
+            InputLogFormat.getVarLong(log);
+            switch (type) {
+                case InputLogFormat.DEVICE_READ -> {
+                    InputLogFormat.getVarLong(log);
+                    log.get();
+                }
+                case InputLogFormat.MEMORY_WRITE -> {
+                    InputLogFormat.getVarLong(log);
+                    int length = (int) InputLogFormat.getVarLong(log);
+                    log.position(log.position() + length);
+                }
+                case InputLogFormat.REGISTER -> {
+                    log.get();
+                    InputLogFormat.getVarLong(log);
+                }
+                case InputLogFormat.CHECKPOINT -> {
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        times = Arrays.copyOf(times, count * 2);
+                    }
+                    offsets[count] = offset;
+                    times[count] = InputLogFormat.getVarLong(log);
+                    count++;
+                    log.position(log.position() + 6);
+                    int length = (int) InputLogFormat.getVarLong(log);
+                    log.position(log.position() + length);
+                }
+                default -> throw new IOException("Bozuk girdi günlüğü, konum " + offset);
+            }
+        }
+
+        InputReplay replay = new InputReplay(log, interval, Arrays.copyOf(offsets, count), Arrays.copyOf(times, count));
+        log.position(recordsStart);
+        replay.advance();
+        return replay;
+    }
+
+    public int getCheckpointCount() {
+        return checkpointOffsets.length;
+    }
+
+    // Kontrol noktasının alındığı andaki yürütülmüş komut sayısı
+    public long getCheckpointInstruction(int index) {
+        return checkpointTimes[index];
+    }
+
+    public long getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    // Son kontrol noktası kaydın bittiği andır
+    public long getEndInstruction() {
+        return checkpointTimes.length == 0 ? 0 : checkpointTimes[checkpointTimes.length - 1];
+    }
+
+    public boolean isFinished() {
+        return nextType == END;
+    }
+
+    // Simülatörü kontrol noktasındaki duruma getirir ve günlüğü o noktanın hemen sonrasına konumlar
+    void seek(SimulatorController simulator, int index) {
+        if (index < 0 || index >= checkpointOffsets.length) {
+            throw new IllegalArgumentException("Kontrol noktası yok: " + index + " (günlükte "
+                    + checkpointOffsets.length + " kontrol noktası var)");
+        }
+        log.position(checkpointOffsets[index] + 1);
+        InputLogFormat.getVarLong(log);
+        long time = InputLogFormat.getVarLong(log);
+        int a = log.get() & 0xFF;
+        int b = log.get() & 0xFF;
+        int x = log.getShort() & 0xFFFF;
+        int pc = log.getShort() & 0xFFFF;
+        inflate(scratch);
+
+        simulator.restoreState(a, b, x, pc, time, scratch);
+        lastTime = time;
+        advance();
+    }
+
+    void beforeInstruction(SimulatorController simulator, long time) {
+        while (nextType != END && nextType != InputLogFormat.DEVICE_READ && nextTime == time) {
+            switch (nextType) {
+                case InputLogFormat.MEMORY_WRITE -> {
+                    int address = (int) InputLogFormat.getVarLong(log);
+                    int length = (int) InputLogFormat.getVarLong(log);
+                    log.get(scratch, 0, length);
+                    simulator.writeMemory(address, scratch, 0, length);
+                }
+                case InputLogFormat.REGISTER -> {
+                    int register = log.get();
+                    int value = (int) InputLogFormat.getVarLong(log);
+                    switch (register) {
+                        case InputLogFormat.REG_A -> simulator.setA(value);
+                        case InputLogFormat.REG_B -> simulator.setB(value);
+                        case InputLogFormat.REG_X -> simulator.setX(value);
+                        default -> simulator.setPC(value);
+                    }
+                }
+                default -> verifyCheckpoint(simulator, time);
+            }
+            advance();
+        }
+
+        if (nextType != END && nextTime < time) {
+            throw new IllegalStateException("Yeniden oynatma ayrıştı: komut " + time
+                    + ", günlükte bekleyen kayıt komut " + nextTime);
+        }
+    }
+
+    // Günlükte bu komut için bu adrese ait aygıt okuması varsa değerini, yoksa -1 döner.
+    // Eşlenmiş aygıt adresi için kayıt bulunamazsa canlı değere düşülmez, ayrışma bildirilir.
+    // Aynı komutun aygıt olmayan bir adresten okuması beklenen kaydı tüketmez; kayıt hiç tüketilmezse
+    // sonraki komut öncesinde beforeInstruction ayrışmayı yakalar.
+    int deviceRead(long time, int address, boolean mapped) {
+        if (nextType != InputLogFormat.DEVICE_READ || nextTime != time) {
+            if (mapped) throw missingRead(time, address, "günlükte bu komut için aygıt okuması yok");
+            return -1;
+        }
+
+        int mark = log.position();
+        int logged = (int) InputLogFormat.getVarLong(log);
+        if (logged != address) {
+            log.position(mark);
+            if (mapped) throw missingRead(time, address, String.format("günlükteki okuma $%04X adresinden", logged));
+            return -1;
+        }
+        int value = log.get() & 0xFF;
+        advance();
+        return value;
+    }
+
+    private static IllegalStateException missingRead(long time, int address, String detail) {
+        return new IllegalStateException(String.format("Yeniden oynatma ayrıştı: komut %d, $%04X aygıt okuması; %s",
+                time, address, detail));
+    }
+
+    private void verifyCheckpoint(SimulatorController simulator, long time) {
+        InputLogFormat.getVarLong(log);
+        int a = log.get() & 0xFF;
+        int b = log.get() & 0xFF;
+        int x = log.getShort() & 0xFFFF;
+        int pc = log.getShort() & 0xFFFF;
+        int length = (int) InputLogFormat.getVarLong(log);
+        log.position(log.position() + length);
+
+        if (a != simulator.getA() || b != simulator.getB() || x != simulator.getX() || pc != simulator.getPC()) {
+            throw new IllegalStateException(String.format(
+                    "Yeniden oynatma ayrıştı: komut %d, kayıt A=%02X B=%02X X=%04X PC=%04X, simülatör A=%02X B=%02X X=%04X PC=%04X",
+                    time, a, b, x, pc, simulator.getA(), simulator.getB(), simulator.getX(), simulator.getPC()));
+        }
+    }
+
+    private void inflate(byte[] target) {
+        int length = (int) InputLogFormat.getVarLong(log);
+        ByteBuffer compressed = log.slice(log.position(), length);
+        log.position(log.position() + length);
+
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            int filled = 0;
+            while (filled < target.length && !inflater.finished()) {
+                filled += inflater.inflate(target, filled, target.length - filled);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Bozuk kontrol noktası: " + e.getMessage(), e);
+        }
+    }
+
+    private void advance() {
+        if (!log.hasRemaining()) {
+            nextType = END;
+            return;
+        }
+        nextType = log.get();
+        nextTime = lastTime + InputLogFormat.getVarLong(log);
+        lastTime = nextTime;
+    }
+}
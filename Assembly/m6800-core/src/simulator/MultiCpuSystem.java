@@ -0,0 +1,153 @@
+package simulator;
+
+import assembler.SourceMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+
+// Ortak ve özel bellek bölgelerine bağlı N adet CPU. Her CPU kendi SimulatorController'ıdır;
+// ortak bölgeler tüm CPU'lara SharedMemory aygıtı olarak eşlenir, geri kalan adresler CPU'ya özeldir.
+// Komutlar her zaman CPU'nun özel belleğinden çözülür, ortak bölgeler yalnızca veri içindir.
+//
+// Çevrim dilimi (quantum) her CPU'nun sırası geldiğinde yürüttüğü çevrim sayısıdır:
+// küçük dilim ortak bellek erişim sırasını gerçeğe yaklaştırır, büyük dilim daha hızlıdır.
+public class MultiCpuSystem {
+
+    private final List<SimulatorController> cpus = new ArrayList<>();
+    private final List<SharedMemory> sharedRegions = new ArrayList<>();
+    private final long[] elapsed;
+    private long quantum;
+
+    public MultiCpuSystem(int cpuCount, long quantum) {
+        for (int i = 0; i < cpuCount; i++) {
+            cpus.add(new SimulatorController());
+        }
+        this.elapsed = new long[cpuCount];
+        this.quantum = checkQuantum(quantum);
+    }
+
+    public SharedMemory addSharedRegion(int address, int length) {
+        SharedMemory region = new SharedMemory(address, length);
+        for (SimulatorController cpu : cpus) {
+            cpu.mapDevice(address, length, region);
+        }
+        sharedRegions.add(region);
+        return region;
+    }
+
+    public void load(int cpu, String machineCode, SourceMap sourceMap) {
+        cpus.get(cpu).load(machineCode, sourceMap);
+        elapsed[cpu] = 0;
+    }
+
+    public SimulatorController getCpu(int index) {
+        return cpus.get(index);
+    }
+
+    public int getCpuCount() {
+        return cpus.size();
+    }
+
+    public List<SharedMemory> getSharedRegions() {
+        return sharedRegions;
+    }
+
+    public long getQuantum() {
+        return quantum;
+    }
+
+    public void setQuantum(long quantum) {
+        this.quantum = checkQuantum(quantum);
+    }
+
+    // Sıfır ya da negatif dilimle tur hedefi hiç ilerlemez
+    private static long checkQuantum(long quantum) {
+        if (quantum <= 0) throw new IllegalArgumentException("Çevrim dilimi pozitif olmalı: " + quantum);
+        return quantum;
+    }
+
+    // Önceki çalıştırmalardan ya da dilim değişikliğinden sonra boş turlar dönülmesin diye
+    // ilk tur hedefi en geride kalan CPU'nun bir sonraki dilim sınırıdır
+    private long firstRound() {
+        long behind = Long.MAX_VALUE;
+        for (long cycles : elapsed) {
+            behind = Math.min(behind, cycles);
+        }
+        return elapsed.length == 0 ? 0 : behind / quantum;
+    }
+
+    // CPU'nun yükleme ya da son sıfırlamadan beri yürüttüğü çevrim
+    public long getElapsedCycles(int cpu) {
+        return elapsed[cpu];
+    }
+
+    // Tek iş parçacığında sabit sırayla dilim dilim yürütür; aynı girdiyle her zaman aynı sonucu verir.
+    // Her CPU maxCycles çevrime ulaşınca ya da programı bitince durur. Tamamlanan tur sayısını döner.
+    public long runInterleaved(long maxCycles) {
+        long rounds = 0;
+        long first = firstRound();
+        boolean active = true;
+
+        while (active) {
+            active = false;
+            long target = (first + rounds + 1) * quantum;
+            for (int i = 0; i < cpus.size(); i++) {
+                if (runSlice(i, target, maxCycles)) active = true;
+            }
+            rounds++;
+        }
+        return rounds;
+    }
+
+    // Her CPU kendi iş parçacığında çalışır ve yalnızca dilim sınırlarında ve ortak bellek erişimlerinde eşzamanlanır.
+    // Dilim sınırları korunur ama dilim içindeki ortak bellek erişimlerinin sırası belirlenimci değildir.
+    public void runParallel(long maxCycles) throws InterruptedException {
+        Phaser boundary = new Phaser(cpus.size());
+        long first = firstRound();
+        ExecutorService pool = Executors.newFixedThreadPool(cpus.size(), r -> {
+            Thread thread = new Thread(r, "cpu");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < cpus.size(); i++) {
+                int cpu = i;
+                workers.add(pool.submit(() -> {
+                    try {
+                        for (long round = first; ; round++) {
+                            if (!runSlice(cpu, (round + 1) * quantum, maxCycles)) break;
+                            boundary.arriveAndAwaitAdvance();
+                        }
+                    } finally {
+                        boundary.arriveAndDeregister();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("CPU iş parçacığı hata verdi", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // CPU'yu tur hedefine kadar ilerletir; önceki dilimdeki taşma bir sonrakinden düşülür.
+    // CPU hâlâ çalışabiliyorsa true döner.
+    private boolean runSlice(int cpu, long roundTarget, long maxCycles) {
+        SimulatorController simulator = cpus.get(cpu);
+        long target = Math.min(roundTarget, maxCycles);
+        if (simulator.hasNextStep() && elapsed[cpu] < target) {
+            elapsed[cpu] += simulator.runCycles(target - elapsed[cpu], pc -> false).cycles;
+        }
+        return simulator.hasNextStep() && elapsed[cpu] < maxCycles;
+    }
+}
@@ -0,0 +1,102 @@
+package simulator;
+
+import java.util.Arrays;
+
+// Fuzz karşılaştırmaları için bilerek basit tutulan referans yorumlayıcı.
+// Program belleğe kopyalanır ve komutlar oradan çözülür, günlük üretilmez;
+// davranış modeli SimulatorController ile aynıdır (ör. BNE/BEQ B'ye, BMI/BPL A'nın 7. bitine bakar).
+public class ReferenceInterpreter {
+
+    public int a, b, x, pc;
+    public final byte[] memory = new byte[0x10000];
+
+    // Son komutun yazdığı adres; yazma yoksa -1
+    public int lastWrite = -1;
+
+    private int codeBase;
+    private int codeEnd;
+    private int[] instructionStarts = new int[0];
+
+    // instructionStarts artan sırada komut başlangıç adresleridir; tanımsız opcode atlanırken kullanılır
+    public void load(byte[] code, int codeBase, int[] instructionStarts) {
+        this.instructionStarts = instructionStarts;
+        this.codeBase = codeBase;
+        this.codeEnd = codeBase + code.length;
+        this.pc = codeBase;
+        this.a = 0;
+        this.b = 0;
+        this.x = 0;
+        this.lastWrite = -1;
+        Arrays.fill(memory, (byte) 0);
+        System.arraycopy(code, 0, memory, codeBase, code.length);
+    }
+
+    public boolean isRunning() {
+        return pc >= codeBase && pc < codeEnd;
+    }
+
+    public void step() {
+        lastWrite = -1;
+        int opcode = fetch(0);
+
+        switch (opcode) {
+            case 0x86 -> { a = fetch(1); pc += 2; }
+            case 0xC6 -> { b = fetch(1); pc += 2; }
+            case 0x8B -> { a = (a + fetch(1)) & 0xFF; pc += 2; }
+            case 0x84 -> { a = a & fetch(1); pc += 2; }
+            case 0x96 -> { a = read(fetch(1)); pc += 2; }
+            case 0x9B -> { a = (a + read(fetch(1))) & 0xFF; pc += 2; }
+            case 0x90 -> { a = (a - read(fetch(1))) & 0xFF; pc += 2; }
+            case 0x97 -> { write(fetch(1), a); pc += 2; }
+            case 0xA6 -> { a = read(x + fetch(1)); pc += 2; }
+            case 0xE6 -> { b = read(x + fetch(1)); pc += 2; }
+            case 0xA7 -> { write(x + fetch(1), a); pc += 2; }
+            case 0xE7 -> { write(x + fetch(1), b); pc += 2; }
+            case 0xCE -> { x = (fetch(1) << 8) | fetch(2); pc += 3; }
+            case 0x7E, 0xBD -> pc = (fetch(1) << 8) | fetch(2);
+            case 0x20 -> branch(true);
+            case 0x26 -> branch(b != 0);
+            case 0x27 -> branch(b == 0);
+            case 0x2B -> branch((a & 0x80) != 0);
+            case 0x2A -> branch((a & 0x80) == 0);
+            case 0x4C -> { a = (a + 1) & 0xFF; pc += 1; }
+            case 0x5C -> { b = (b + 1) & 0xFF; pc += 1; }
+            case 0x08 -> { x = (x + 1) & 0xFFFF; pc += 1; }
+            case 0x09 -> { x = (x - 1) & 0xFFFF; pc += 1; }
+            case 0x44 -> { a = (a >> 1) & 0xFF; pc += 1; }
+            case 0x48 -> { a = (a << 1) & 0xFF; pc += 1; }
+            case 0x58 -> { b = (b << 1) & 0xFF; pc += 1; }
+            case 0x1B -> { a = (a + b) & 0xFF; pc += 1; }
+            case 0x10 -> { a = (a - b) & 0xFF; pc += 1; }
+            case 0x16 -> { b = a; pc += 1; }
+            case 0x17 -> { a = b; pc += 1; }
+            case 0x39, 0x11, 0x0D, 0x0C, 0x01 -> pc += 1;
+            default -> pc = nextInstruction(pc);
+        }
+    }
+
+    // Tanımsız opcode'da SimulatorController gibi komutun geri kalanı atlanır
+    private int nextInstruction(int address) {
+        int index = Arrays.binarySearch(instructionStarts, address);
+        if (index < 0) index = -index - 2;
+        return index + 1 < instructionStarts.length ? instructionStarts[index + 1] : codeEnd;
+    }
+
+    private void branch(boolean taken) {
+        int offset = (byte) fetch(1);
+        pc = taken ? (pc + 2 + offset) & 0xFFFF : pc + 2;
+    }
+
+    private int fetch(int offset) {
+        return memory[(pc + offset) & 0xFFFF] & 0xFF;
+    }
+
+    private int read(int address) {
+        return memory[address & 0xFFFF] & 0xFF;
+    }
+
+    private void write(int address, int value) {
+        lastWrite = address & 0xFFFF;
+        memory[lastWrite] = (byte) value;
+    }
+}
@@ -0,0 +1,23 @@
+package simulator;
+
+// run() sonucunun değişmez özeti
+public final class RunResult {
+
+    public final long instructions;
+    public final long cycles;
+    public final StopReason stopReason;
+    public final int pc;
+
+    public RunResult(long instructions, long cycles, StopReason stopReason, int pc) {
+        this.instructions = instructions;
+        this.cycles = cycles;
+        this.stopReason = stopReason;
+        this.pc = pc;
+    }
+
+    @Override
+    public String toString() {
+        return "Komut: " + instructions + " | Çevrim: " + cycles + " | Durma: " + stopReason.getLabel()
+                + " | PC: $" + String.format("%04X", pc);
+    }
+}
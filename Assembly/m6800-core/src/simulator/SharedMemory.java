@@ -0,0 +1,40 @@
+package simulator;
+
+// Birden çok CPU'ya aynı adres aralığında eşlenen ortak bellek (ör. çift kapılı RAM).
+// Erişimler bu nesne üzerinde eşzamanlanır; paralel çalışmada CPU'lar yalnızca burada karşılaşır.
+public class SharedMemory implements Device {
+
+    private final int base;
+    private final byte[] data;
+
+    public SharedMemory(int base, int length) {
+        this.base = base & 0xFFFF;
+        this.data = new byte[length];
+    }
+
+    @Override
+    public synchronized int read(int address) {
+        return data[(address - base) & 0xFFFF] & 0xFF;
+    }
+
+    @Override
+    public synchronized void write(int address, int value) {
+        data[(address - base) & 0xFFFF] = (byte) value;
+    }
+
+    public int getBase() {
+        return base;
+    }
+
+    public int getLength() {
+        return data.length;
+    }
+
+    public synchronized void read(int offset, byte[] target, int targetOffset, int length) {
+        System.arraycopy(data, offset, target, targetOffset, length);
+    }
+
+    public synchronized void write(int offset, byte[] source, int sourceOffset, int length) {
+        System.arraycopy(source, sourceOffset, data, offset, length);
+    }
+}
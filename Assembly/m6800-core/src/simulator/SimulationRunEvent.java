@@ -0,0 +1,30 @@
+package simulator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// SimulatorController.run() çağrısı başına bir JFR olayı; modül içinde üretilir, dışa açık API değildir
+@Name("m6800.SimulationRun")
+@Label("Simülasyon Çalıştırması")
+@Category({"M6800", "Simülatör"})
+@Description("run() ile yürütülen komut ve çevrim sayısı ile durma nedeni")
+class SimulationRunEvent extends Event {
+
+    @Label("Başlangıç PC")
+    public int startPc;
+
+    @Label("Bitiş PC")
+    public int endPc;
+
+    @Label("Komut Sayısı")
+    public long instructions;
+
+    @Label("Çevrim Sayısı")
+    public long cycles;
+
+    @Label("Durma Nedeni")
+    public String stopReason;
+}
@@ -0,0 +1,687 @@
+package simulator;
+
+import assembler.InstructionSet;
+import assembler.ObjectImage;
+import assembler.SourceMap;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+public class SimulatorController {
+
+    private int pc = 0xC000;
+    private int a = 0;
+    private int b = 0;
+    private int x = 0;
+    private final byte[] memory = new byte[0x10000];
+    private final HexDumpFormatter hexDump = new HexDumpFormatter();
+    private CoverageRecorder coverage;
+    private ExecutionListener listener;
+
+    // Belleğe eşlenmiş aygıtlar (ilk eşlemede ayrılır) ve girdi kaydı / yeniden oynatma
+    private Device[] devices;
+    private InputRecorder recorder;
+    private InputReplay replay;
+    private long retired = 0;
+
+    // Hata ayıklayıcı izleme noktaları; yalnızca veri erişimlerinde denetlenir
+    private BitSet readWatch;
+    private BitSet writeWatch;
+    private int watchHit = -1;
+    private boolean watchHitWrite;
+
+    private SourceMap sourceMap;
+    private final BitSet loadedCode = new BitSet(0x10000);
+
+    // Çalışma sayaçları (SimulatorMetrics üzerinden JMX'e açılır); yükleme ile sıfırlanmaz
+    private final long[] opcodeCounts = new long[256];
+    private long cycles = 0;
+    private long runInstructions = 0;
+    private long runNanos = 0;
+
+    private int stepCount = 0;
+    private boolean halted = false;
+    private final int MAX_STEPS = 100;
+
+    public void load(String machineCode) {
+        load(machineCode, null);
+    }
+
+    // Program baytları belleğe yerleştirilir ve komutlar oradan çözülür.
+    // Kaynak haritası verilmezse satırların $C000'dan itibaren art arda dizildiği varsayılır.
+    public void load(String machineCode, SourceMap sourceMap) {
+        String[] instructions = machineCode.split("\\n");
+        this.sourceMap = sourceMap != null ? sourceMap : sequentialMap(instructions);
+        this.a = 0;
+        this.b = 0;
+        this.x = 0;
+        Arrays.fill(memory, (byte) 0);
+        loadedCode.clear();
+        this.retired = 0;
+        this.stepCount = 0;
+        this.halted = false;
+
+        for (int i = 0; i < this.sourceMap.size(); i++) {
+            int address = this.sourceMap.getAddress(i);
+            String[] bytes = instructions[this.sourceMap.getLine(i)].trim().split("\\s+");
+            for (int k = 0; k < this.sourceMap.getLength(i); k++) {
+                int value = k < bytes.length && bytes[k].length() == 2 ? Integer.parseInt(bytes[k], 16) : 0;
+                memory[(address + k) & 0xFFFF] = (byte) value;
+            }
+            loadedCode.set(address, address + this.sourceMap.getLength(i));
+        }
+
+        int entry = this.sourceMap.getEntryAddress();
+        this.pc = entry >= 0 ? entry : 0xC000;
+    }
+
+    // Yeniden çevrilen programı durumu sıfırlamadan yerleştirir. Yeni programın kapsadığı baytlardan yalnızca
+    // önceki görüntüden farklı olanlar (ya da önceden kod olmayan adresler) belleğe yazılır; kayıtlar, sayaçlar ve
+    // geri kalan RAM korunur. Komutlar her adımda bellekten çözüldüğü için geçersizleştirilecek çözülmüş blok yoktur;
+    // kod kapsamı, kaynak haritası ve yamalanan adreslerin kapsam bitleri yenilenir. Yazılan bayt sayısını döner.
+    public int patchProgram(ObjectImage previous, ObjectImage current, SourceMap sourceMap) {
+        byte[] bytes = current.getBytes();
+        int base = current.getBaseAddress();
+        int written = 0;
+
+        for (int i = 0; i < sourceMap.size(); i++) {
+            int address = sourceMap.getAddress(i);
+            int end = address + sourceMap.getLength(i);
+            int runStart = -1;
+
+            for (int at = address; at <= end; at++) {
+                boolean changed = at < end && (!loadedCode.get(at & 0xFFFF)
+                        || imageByte(previous, at) != (bytes[at - base] & 0xFF));
+                if (changed && runStart < 0) runStart = at;
+                if (!changed && runStart >= 0) {
+                    writeMemory(runStart, bytes, runStart - base, at - runStart);
+                    if (coverage != null) coverage.clearRange(runStart, at);
+                    written += at - runStart;
+                    runStart = -1;
+                }
+            }
+        }
+
+        this.sourceMap = sourceMap;
+        loadedCode.clear();
+        for (int i = 0; i < sourceMap.size(); i++) {
+            loadedCode.set(sourceMap.getAddress(i), sourceMap.getAddress(i) + sourceMap.getLength(i));
+        }
+        this.stepCount = 0;
+        this.halted = false;
+        return written;
+    }
+
+    // Görüntünün dışında kalan adres için -1; hiçbir bayt değeriyle eşleşmez
+    private static int imageByte(ObjectImage image, int address) {
+        int offset = address - image.getBaseAddress();
+        return offset >= 0 && offset < image.size() ? image.getBytes()[offset] & 0xFF : -1;
+    }
+
+    private static SourceMap sequentialMap(String[] lines) {
+        int[] addresses = new int[lines.length];
+        int[] lengths = new int[lines.length];
+        int[] lineIndexes = new int[lines.length];
+        int count = 0;
+        int address = 0xC000;
+
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith("HATA")) continue;
+            addresses[count] = address;
+            lengths[count] = line.split("\\s+").length;
+            lineIndexes[count] = i;
+            address += lengths[count];
+            count++;
+        }
+        return SourceMap.build(count, addresses, lengths, new int[count], lineIndexes);
+    }
+
+    public boolean hasNextStep() {
+        return !halted && loadedCode.get(pc);
+    }
+
+    public String step() {
+        if (stepCount++ > MAX_STEPS) {
+            halted = true;
+            return "Simülasyon sonlandırıldı (sonsuz döngü algılandı).";
+        }
+
+        if (!hasNextStep()) return "Simülasyon tamamlandı.";
+
+        return execute(true);
+    }
+
+    // Günlük üretmeden ve adım sınırı olmadan çalıştırır; stopBefore her komuttan önce PC ile sorgulanır
+    public RunResult run(long maxInstructions, IntPredicate stopBefore) {
+        return run(maxInstructions, Long.MAX_VALUE, stopBefore);
+    }
+
+    // Çevrim bütçesiyle çalıştırır; son komut bütçeyi en fazla bir komutluk aşabilir
+    public RunResult runCycles(long maxCycles, IntPredicate stopBefore) {
+        return run(Long.MAX_VALUE, maxCycles, stopBefore);
+    }
+
+    private RunResult run(long maxInstructions, long maxCycles, IntPredicate stopBefore) {
+        SimulationRunEvent event = new SimulationRunEvent();
+        event.begin();
+        long cyclesBefore = cycles;
+        int startPc = pc;
+        long started = System.nanoTime();
+
+        long executed = 0;
+        watchHit = -1;
+        while (executed < maxInstructions && cycles - cyclesBefore < maxCycles
+                && watchHit < 0 && loadedCode.get(pc) && !stopBefore.test(pc)) {
+            execute(false);
+            executed++;
+        }
+
+        runNanos += System.nanoTime() - started;
+        runInstructions += executed;
+
+        StopReason reason = watchHit >= 0 ? StopReason.WATCHPOINT
+                : !loadedCode.get(pc) ? StopReason.PROGRAM_END
+                : executed >= maxInstructions ? StopReason.INSTRUCTION_LIMIT
+                : cycles - cyclesBefore >= maxCycles ? StopReason.CYCLE_LIMIT
+                : StopReason.STOP_CONDITION;
+        RunResult result = new RunResult(executed, cycles - cyclesBefore, reason, pc);
+
+        if (event.shouldCommit()) {
+            event.startPc = startPc;
+            event.endPc = pc;
+            event.instructions = executed;
+            event.cycles = result.cycles;
+            event.stopReason = reason.getLabel();
+            event.commit();
+        }
+        if (listener != null) listener.runFinished(result);
+        return result;
+    }
+
+    private String execute(boolean trace) {
+        if (recorder != null) recorder.beforeInstruction(this, retired);
+        if (replay != null) replay.beforeInstruction(this, retired);
+
+        int pcBefore = pc;
+        if (coverage != null) coverage.recordExecuted(pc);
+        int opcode = fetch(0);
+        opcodeCounts[opcode]++;
+        cycles += InstructionSet.cyclesForOpcode(opcode);
+        String log = trace ? "PC: $" + String.format("%04X", pc) + " → " : null;
+
+        switch (opcode) {
+            case 0x86: // LDAA #imm
+                a = fetch(1);
+                if (trace) log += "LDAA → A = " + a;
+                pc += 2;
+                break;
+
+            case 0xC6: // LDAB #imm
+                b = fetch(1);
+                if (trace) log += "LDAB → B = " + b;
+                pc += 2;
+                break;
+
+            case 0x8B: // ADDA #imm
+                a = (a + fetch(1)) & 0xFF;
+                if (trace) log += "ADDA → A = " + a;
+                pc += 2;
+                break;
+
+            case 0x5C: // INCB
+                b = (b + 1) & 0xFF;
+                if (trace) log += "INCB → B = " + b;
+                pc += 1;
+                break;
+            case 0x96: // LDAA direct
+                int addr96 = fetch(1);
+                a = readByte(addr96);
+                if (trace) log += "LDAA → A = " + a;
+                pc += 2;
+                break;
+            case 0x9B: // ADDA direct
+                int addr9B = fetch(1);
+                a = (a + readByte(addr9B)) & 0xFF;
+                if (trace) log += "ADDA → A = " + a;
+                pc += 2;
+                break;
+            case 0x90: // SUBA direct
+                int addr90 = fetch(1);
+                a = (a - readByte(addr90)) & 0xFF;
+                if (trace) log += "SUBA → A = " + a;
+                pc += 2;
+                break;
+
+
+            case 0x97: // STAA direct
+                int addrStaa = fetch(1);
+                writeByte(addrStaa, a);
+                if (trace) log += "STAA → [$" + String.format("%02X", addrStaa) + "] = " + a;
+                pc += 2;
+                break;
+
+            case 0xA7: // STAA offset,X
+                int offsetA = fetch(1);
+                writeByte((x + offsetA) & 0xFFFF, a);
+                if (trace) log += "STAA,X → [$" + String.format("%04X", (x + offsetA)) + "] = " + a;
+                pc += 2;
+                break;
+
+            case 0xE7: // STAB offset,X
+                int offsetB = fetch(1);
+                writeByte((x + offsetB) & 0xFFFF, b);
+                if (trace) log += "STAB,X → [$" + String.format("%04X", (x + offsetB)) + "] = " + b;
+                pc += 2;
+                break;
+
+            case 0xE6: // LDAB offset,X
+                int addrLd = (x + fetch(1)) & 0xFFFF;
+                b = readByte(addrLd);
+                if (trace) log += "LDAB,X → B = " + b;
+                pc += 2;
+                break;
+
+            case 0x4C: // INCA
+                a = (a + 1) & 0xFF;
+                if (trace) log += "INCA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x08: // INX
+                x = (x + 1) & 0xFFFF;
+                if (trace) log += "INX → X = " + x;
+                pc += 1;
+                break;
+
+            case 0x09: // DEX
+                x = (x - 1) & 0xFFFF;
+                if (trace) log += "DEX → X = " + x;
+                pc += 1;
+                break;
+
+            case 0xCE: // LDX #imm16
+                x = ((fetch(1) << 8) | fetch(2)) & 0xFFFF;
+                if (trace) log += "LDX → X = $" + String.format("%04X", x);
+                pc += 3;
+                break;
+
+            case 0x7E: // JMP addr
+                pc = (fetch(1) << 8) | fetch(2);
+                if (trace) log += "JMP → PC = $" + String.format("%04X", pc);
+                break;
+
+            case 0x20: // BRA offset
+                pc = (pc + 2 + (byte) fetch(1)) & 0xFFFF;
+                if (trace) log += "BRA → PC = $" + String.format("%04X", pc);
+                break;
+
+            case 0x26: // BNE offset
+                recordBranch(pcBefore, b != 0);
+                if (b != 0) {
+                    pc = (pc + 2 + (byte) fetch(1)) & 0xFFFF;
+                    if (trace) log += "BNE true → $" + String.format("%04X", pc);
+                } else {
+                    pc += 2;
+                    if (trace) log += "BNE false → devam";
+                }
+                break;
+
+            case 0x27: // BEQ offset
+                recordBranch(pcBefore, b == 0);
+                if (b == 0) {
+                    pc = (pc + 2 + (byte) fetch(1)) & 0xFFFF;
+                    if (trace) log += "BEQ true → $" + String.format("%04X", pc);
+                } else {
+                    pc += 2;
+                    if (trace) log += "BEQ false → devam";
+                }
+                break;
+
+            case 0xBD: // JSR addr
+                pc = (fetch(1) << 8) | fetch(2);
+                if (trace) log += "JSR → PC = $" + String.format("%04X", pc);
+                break;
+
+            case 0x39: // RTS
+                pc += 1;
+                if (trace) log += "RTS → dönüş yapıldı";
+                break;
+
+            case 0x11: // CBA
+                if (trace) log += "CBA → A - B = " + (a - b);
+                pc += 1;
+                break;
+            // ... mevcut switch bloğuna aşağıdakileri EKLE ...
+
+            case 0xA6: // LDAA offset,X
+                int addrA6 = (x + fetch(1)) & 0xFFFF;
+                a = readByte(addrA6);
+                if (trace) log += "LDAA,X → A = " + a;
+                pc += 2;
+                break;
+
+            case 0x84: // ANDA #imm
+                a = a & fetch(1);
+                if (trace) log += "ANDA → A = " + a;
+                pc += 2;
+                break;
+
+            case 0x44: // LSRA
+                a = (a >> 1) & 0xFF;
+                if (trace) log += "LSRA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x2B: // BMI offset
+                recordBranch(pcBefore, (a & 0x80) != 0);
+                if ((a & 0x80) != 0) {
+                    pc = (pc + 2 + (byte) fetch(1)) & 0xFFFF;
+                    if (trace) log += "BMI true → $" + String.format("%04X", pc);
+                } else {
+                    pc += 2;
+                    if (trace) log += "BMI false → devam";
+                }
+                break;
+
+            case 0x2A: // BPL offset (uzak BMI'nin ters dalı olarak da üretilir)
+                recordBranch(pcBefore, (a & 0x80) == 0);
+                if ((a & 0x80) == 0) {
+                    pc = (pc + 2 + (byte) fetch(1)) & 0xFFFF;
+                    if (trace) log += "BPL true → $" + String.format("%04X", pc);
+                } else {
+                    pc += 2;
+                    if (trace) log += "BPL false → devam";
+                }
+                break;
+
+
+            case 0x48: // ASLA
+                a = (a << 1) & 0xFF;
+                if (trace) log += "ASLA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x58: // ASLB
+                b = (b << 1) & 0xFF;
+                if (trace) log += "ASLB → B = " + b;
+                pc += 1;
+                break;
+
+            case 0x1B: // ABA
+                a = (a + b) & 0xFF;
+                if (trace) log += "ABA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x10: // SBA
+                a = (a - b) & 0xFF;
+                if (trace) log += "SBA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x16: // TAB
+                b = a;
+                if (trace) log += "TAB → B = " + b;
+                pc += 1;
+                break;
+
+            case 0x17: // TBA
+                a = b;
+                if (trace) log += "TBA → A = " + a;
+                pc += 1;
+                break;
+
+            case 0x0D: // SEC
+                if (trace) log += "SEC → (simüle edilmedi)";
+                pc += 1;
+                break;
+
+            case 0x0C: // CLC
+                if (trace) log += "CLC → (simüle edilmedi)";
+                pc += 1;
+                break;
+
+            case 0x01: // NOP
+                if (trace) log += "NOP → işlem yok";
+                pc += 1;
+                break;
+
+            default:
+                if (trace) log += "Bilinmeyen opcode: " + String.format("%02X", opcode);
+                pc = skipUnknown(pc);
+                break;
+        }
+
+        retired++;
+        if (listener != null) listener.afterStep(pcBefore, opcode);
+        return log;
+    }
+
+    private void recordBranch(int address, boolean taken) {
+        if (coverage != null) coverage.recordBranch(address, taken);
+    }
+
+    private int readByte(int addr) {
+        addr &= 0xFFFF;
+        if (readWatch != null && readWatch.get(addr)) {
+            watchHit = addr;
+            watchHitWrite = false;
+        }
+        if (replay != null) {
+            int replayed = replay.deviceRead(retired, addr, devices != null && devices[addr] != null);
+            if (replayed >= 0) return replayed;
+        }
+        if (devices != null && devices[addr] != null) {
+            int value = devices[addr].read(addr) & 0xFF;
+            if (recorder != null) recorder.deviceRead(retired, addr, value);
+            return value;
+        }
+        return memory[addr] & 0xFF;
+    }
+
+    private void writeByte(int addr, int value) {
+        addr &= 0xFFFF;
+        if (writeWatch != null && writeWatch.get(addr)) {
+            watchHit = addr;
+            watchHitWrite = true;
+        }
+        if (devices != null && devices[addr] != null) devices[addr].write(addr, value);
+        memory[addr] = (byte) value;
+    }
+
+    // İzleme noktası tetiklenmez; hata ayıklayıcı ve araçlar için toplu okuma/yazma
+    // 64 KB sonunu aşan aralık $0000'dan devam eder
+    public void readMemory(int address, byte[] target, int offset, int length) {
+        int base = address & 0xFFFF;
+        int first = Math.min(length, memory.length - base);
+        System.arraycopy(memory, base, target, offset, first);
+        if (first < length) System.arraycopy(memory, 0, target, offset + first, length - first);
+    }
+
+    // Dışarıdan yazım sayılır; kayıt açıksa günlüğe geçer
+    public void writeMemory(int address, byte[] source, int offset, int length) {
+        int base = address & 0xFFFF;
+        if (recorder != null) recorder.memoryWrite(retired, base, source, offset, length);
+        int first = Math.min(length, memory.length - base);
+        System.arraycopy(source, offset, memory, base, first);
+        if (first < length) System.arraycopy(source, offset + first, memory, 0, length - first);
+    }
+
+    // null verilen küme için izleme kapatılır
+    public void setWatchpoints(BitSet readWatch, BitSet writeWatch) {
+        this.readWatch = readWatch;
+        this.writeWatch = writeWatch;
+    }
+
+    // Son run() çağrısını durduran izleme noktasının adresi; yoksa -1
+    public int getWatchHit() { return watchHit; }
+    public boolean isWatchHitWrite() { return watchHitWrite; }
+
+    // RAM görüntüsünü doğrudan belleğe toplu kopyalar; 64 KB sınırını aşan kısım kesilir
+    public int loadMemoryImage(ByteBuffer image, int baseAddress) {
+        int base = baseAddress & 0xFFFF;
+        int length = Math.min(image.remaining(), memory.length - base);
+        image.get(memory, base, length);
+        if (recorder != null) recorder.memoryWrite(retired, base, memory, base, length);
+        return length;
+    }
+
+    public int loadMemoryImage(Path path, int baseAddress) throws IOException {
+        int base = baseAddress & 0xFFFF;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer target = ByteBuffer.wrap(memory, base, memory.length - base);
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) break;
+            }
+            int length = target.position() - base;
+            if (recorder != null) recorder.memoryWrite(retired, base, memory, base, length);
+            return length;
+        }
+    }
+
+    public void saveMemoryImage(Path path, int start, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int base = start & 0xFFFF;
+            ByteBuffer source = ByteBuffer.wrap(memory, base, Math.min(length, memory.length - base));
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    private int fetch(int offset) {
+        return memory[(pc + offset) & 0xFFFF] & 0xFF;
+    }
+
+    // Tanımsız opcode: eski satır tabanlı davranışla aynı şekilde komutun geri kalanı atlanır
+    private int skipUnknown(int address) {
+        int index = sourceMap.indexOf(address);
+        return index < 0 ? address + 1 : sourceMap.getAddress(index) + sourceMap.getLength(index);
+    }
+
+    public long getOpcodeCount(int opcode) { return opcodeCounts[opcode & 0xFF]; }
+    public long getRunInstructions() { return runInstructions; }
+    public long getRunNanos() { return runNanos; }
+
+    public long getTotalInstructions() {
+        long total = 0;
+        for (long count : opcodeCounts) total += count;
+        return total;
+    }
+
+    public long getTotalCycles() { return cycles; }
+
+    public void resetCounters() {
+        Arrays.fill(opcodeCounts, 0);
+        cycles = 0;
+        runInstructions = 0;
+        runNanos = 0;
+    }
+
+    public int getA() { return a; }
+    public int getB() { return b; }
+    public int getX() { return x; }
+    public int getPC() { return pc; }
+
+    // Kayıt yazıcıları dışarıdan yazım sayılır; kayıt açıksa günlüğe geçer
+    public void setA(int a) {
+        this.a = a & 0xFF;
+        if (recorder != null) recorder.registerWrite(retired, InputLogFormat.REG_A, this.a);
+    }
+
+    public void setB(int b) {
+        this.b = b & 0xFF;
+        if (recorder != null) recorder.registerWrite(retired, InputLogFormat.REG_B, this.b);
+    }
+
+    public void setX(int x) {
+        this.x = x & 0xFFFF;
+        if (recorder != null) recorder.registerWrite(retired, InputLogFormat.REG_X, this.x);
+    }
+
+    public void setPC(int pc) {
+        this.pc = pc & 0xFFFF;
+        if (recorder != null) recorder.registerWrite(retired, InputLogFormat.REG_PC, this.pc);
+    }
+
+    // Aygıt okumaları belleğe değil aygıta gider; length adet adres aynı aygıta eşlenir
+    public void mapDevice(int address, int length, Device device) {
+        if (devices == null) devices = new Device[0x10000];
+        for (int i = 0; i < length; i++) {
+            devices[(address + i) & 0xFFFF] = device;
+        }
+    }
+
+    // Başlangıç durumu kontrol noktası olarak yazılır, böylece günlük tek başına yeniden oynatılabilir
+    public void startRecording(InputRecorder recorder) {
+        this.recorder = recorder;
+        recorder.checkpoint(this, retired);
+    }
+
+    // Son durum kontrol noktası olarak yazılır ve günlük kapatılır
+    public void stopRecording() throws IOException {
+        InputRecorder active = recorder;
+        if (active == null) return;
+        active.checkpoint(this, retired);
+        recorder = null;
+        active.close();
+    }
+
+    // Aynı program yüklenmiş olmalı; durum kontrol noktasından geri yüklenir
+    public void startReplay(InputReplay replay, int checkpoint) {
+        replay.seek(this, checkpoint);
+        this.replay = replay;
+    }
+
+    // Bu ana kadar bekleyen kayıtlar uygulanır ve son kontrol noktası doğrulanır
+    public void stopReplay() {
+        if (replay != null) replay.beforeInstruction(this, retired);
+        replay = null;
+    }
+
+    void restoreState(int a, int b, int x, int pc, long retired, byte[] image) {
+        this.a = a;
+        this.b = b;
+        this.x = x;
+        this.pc = pc;
+        this.retired = retired;
+        this.halted = false;
+        System.arraycopy(image, 0, memory, 0, memory.length);
+    }
+
+    public long getRetiredInstructions() { return retired; }
+    public int getCurrentLine() { return sourceMap == null ? -1 : sourceMap.lineForAddress(pc); }
+    public void setCoverage(CoverageRecorder coverage) { this.coverage = coverage; }
+    public CoverageRecorder getCoverage() { return coverage; }
+    public void setExecutionListener(ExecutionListener listener) { this.listener = listener; }
+
+    // Tek bayt okuma; izleme noktası tetiklenmez
+    public int peek(int address) { return memory[address & 0xFFFF] & 0xFF; }
+    // Belleği belirli aralıkta ekrana yazdırmak için
+    public void dumpFullMemory() {
+        System.out.println("=== FULL RAM DUMP ===");
+        PrintWriter out = new PrintWriter(System.out);
+        try {
+            dumpMemory(0x0000, 0x0100, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.flush();
+    }
+
+    public void dumpMemory(int start, int end, Writer out) throws IOException {
+        hexDump.write(memory, 0, start & 0xFFFF, Math.min(end, memory.length), out);
+    }
+
+
+}
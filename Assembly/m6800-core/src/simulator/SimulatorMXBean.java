@@ -0,0 +1,27 @@
+package simulator;
+
+import java.util.Map;
+
+// JConsole / JMC üzerinden okunan simülatör ölçümleri (m6800:type=Simulator)
+public interface SimulatorMXBean {
+
+    long getInstructionsExecuted();
+
+    long getCyclesExecuted();
+
+    // Yalnızca run() ile geçen süre üzerinden; GUI'nin tek adımları hıza katılmaz
+    double getInstructionsPerSecond();
+
+    // Anahtar iki haneli onaltılık opcode; yalnızca en az bir kez yürütülenler
+    Map<String, Long> getInstructionsByOpcode();
+
+    Map<String, Long> getCyclesByOpcode();
+
+    double getLastPublishLatencyMillis();
+
+    double getMaxPublishLatencyMillis();
+
+    double getAveragePublishLatencyMillis();
+
+    void resetCounters();
+}
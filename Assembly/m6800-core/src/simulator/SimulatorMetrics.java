@@ -0,0 +1,125 @@
+package simulator;
+
+import assembler.InstructionSet;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// SimulatorMXBean uygulaması. Sayaçlar simülatörün kendi iş parçacığında kilitsiz artırılır,
+// JMX okumaları bu yüzden anlık görüntü değil yaklaşık değerdir; kayıt olmadığında maliyet yalnızca dizi artırımıdır.
+public class SimulatorMetrics implements SimulatorMXBean {
+
+    private static final AtomicInteger instances = new AtomicInteger();
+
+    private final SimulatorController simulator;
+    private ObjectName name;
+
+    private volatile long lastPublishNanos;
+    private volatile long maxPublishNanos;
+    private long totalPublishNanos;
+    private long publishCount;
+
+    public SimulatorMetrics(SimulatorController simulator) {
+        this.simulator = simulator;
+    }
+
+    // Platform MBean sunucusuna "m6800:type=Simulator,name=simN" adıyla kaydeder
+    public static SimulatorMetrics register(SimulatorController simulator) {
+        SimulatorMetrics metrics = new SimulatorMetrics(simulator);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            metrics.name = new ObjectName("m6800:type=Simulator,name=sim" + instances.incrementAndGet());
+            server.registerMBean(metrics, metrics.name);
+        } catch (JMException e) {
+            System.err.println("MXBean kaydedilemedi: " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    public void unregister() {
+        if (name == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            System.err.println("MXBean kaydı silinemedi: " + e.getMessage());
+        }
+        name = null;
+    }
+
+    // GUI, kayıt/bellek görünümünü ekrana aktardıktan sonra geçen süreyi bildirir
+    public void recordPublishLatency(long nanos) {
+        lastPublishNanos = nanos;
+        if (nanos > maxPublishNanos) maxPublishNanos = nanos;
+        synchronized (this) {
+            totalPublishNanos += nanos;
+            publishCount++;
+        }
+    }
+
+    @Override
+    public long getInstructionsExecuted() {
+        return simulator.getTotalInstructions();
+    }
+
+    @Override
+    public long getCyclesExecuted() {
+        return simulator.getTotalCycles();
+    }
+
+    @Override
+    public double getInstructionsPerSecond() {
+        long nanos = simulator.getRunNanos();
+        return nanos == 0 ? 0 : simulator.getRunInstructions() * 1e9 / nanos;
+    }
+
+    @Override
+    public Map<String, Long> getInstructionsByOpcode() {
+        Map<String, Long> result = new TreeMap<>();
+        for (int opcode = 0; opcode < 256; opcode++) {
+            long count = simulator.getOpcodeCount(opcode);
+            if (count > 0) result.put(String.format("%02X", opcode), count);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getCyclesByOpcode() {
+        Map<String, Long> result = new TreeMap<>();
+        for (int opcode = 0; opcode < 256; opcode++) {
+            long count = simulator.getOpcodeCount(opcode);
+            if (count > 0) result.put(String.format("%02X", opcode), count * InstructionSet.cyclesForOpcode(opcode));
+        }
+        return result;
+    }
+
+    @Override
+    public double getLastPublishLatencyMillis() {
+        return lastPublishNanos / 1e6;
+    }
+
+    @Override
+    public double getMaxPublishLatencyMillis() {
+        return maxPublishNanos / 1e6;
+    }
+
+    @Override
+    public synchronized double getAveragePublishLatencyMillis() {
+        return publishCount == 0 ? 0 : totalPublishNanos / 1e6 / publishCount;
+    }
+
+    @Override
+    public void resetCounters() {
+        simulator.resetCounters();
+        synchronized (this) {
+            lastPublishNanos = 0;
+            maxPublishNanos = 0;
+            totalPublishNanos = 0;
+            publishCount = 0;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package simulator;
+
+// run() çağrısının neden durduğu
+public enum StopReason {
+    PROGRAM_END("program sonu"),
+    INSTRUCTION_LIMIT("komut sınırı"),
+    CYCLE_LIMIT("çevrim sınırı"),
+    WATCHPOINT("izleme noktası"),
+    STOP_CONDITION("durdurma koşulu");
+
+    private final String label;
+
+    StopReason(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
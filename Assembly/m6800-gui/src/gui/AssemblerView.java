@@ -0,0 +1,480 @@
+package gui;
+
+import assembler.CodeGenerator;
+import assembler.ListingWriter;
+import assembler.MappedSource;
+import assembler.ObjectImage;
+import assembler.SourceMap;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.text.Font;
+import javafx.stage.FileChooser;
+import model.TranslationRow;
+import model.TranslationTable;
+import simulator.CoverageRecorder;
+import simulator.CoverageReport;
+import simulator.HexDumpFormatter;
+import simulator.SimulatorController;
+import simulator.SimulatorMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+public class AssemblerView extends BorderPane {
+
+    private TextArea assemblyInput;
+    private TextArea machineOutput;
+    private TableView<TranslationRow> translationTable;
+    private ObservableList<TranslationRow> tableData = FXCollections.observableArrayList();
+    private final TranslationTable translationStore = new TranslationTable();
+
+    private Label aReg, bReg, pcReg;
+    private TextArea simLog;
+    private SimulatorController simulator = new SimulatorController();
+    private final SimulatorMetrics metrics = SimulatorMetrics.register(simulator);
+    private final HexDumpFormatter hexDump = new HexDumpFormatter();
+    private CoverageRecorder coverage = new CoverageRecorder();
+    // Çeviri ya da canlı yüklemede yenilenir; tek adımda yalnızca yürütülen satırın durumu sorulur
+    private CoverageReport coverageReport;
+
+    private List<String> sourceLines = new ArrayList<>();
+    private List<String> outputLines = new ArrayList<>();
+    private String objectCode = "";
+    private SourceMap sourceMap;
+    private CodeGenerator generator;
+    // Simülatörde şu an yüklü olan görüntü; canlı yüklemede fark bunun üzerinden çıkarılır
+    private ObjectImage loadedImage;
+
+    // Bu boyutun üzerindeki dosyalar TextArea yerine salt okunur, sanallaştırılmış listede açılır
+    private static final long LARGE_SOURCE_BYTES = 1 << 20;
+    private MappedSource largeSource;
+    private String sourceName = "program.asm";
+
+    public AssemblerView() {
+        setupLayout();
+    }
+
+    private void setupLayout() {
+        assemblyInput = new TextArea();
+        assemblyInput.setFont(Font.font("Courier New", 14));
+        assemblyInput.setPromptText("Motorola 6800 assembly kodunuzu buraya yazınız...");
+
+        machineOutput = new TextArea();
+        machineOutput.setFont(Font.font("Courier New", 14));
+        machineOutput.setEditable(false);
+
+        Button translateButton = new Button("Çevir");
+        translateButton.setOnAction(e -> translateCode());
+
+        Button reloadButton = new Button("Canlı Yükle");
+        reloadButton.setOnAction(e -> liveReload());
+
+        Button simulateButton = new Button("Simüle Et");
+        simulateButton.setOnAction(e -> simulateStep());
+
+        Button runAllButton = new Button("Tümünü Çalıştır");
+        runAllButton.setOnAction(e -> runAllSteps());
+
+        Button resetButton = new Button("Resetle");
+        resetButton.setOnAction(e -> {
+            simulator.load(objectCode, sourceMap);
+            simLog.clear();
+            simLog.appendText("Simülasyon resetlendi.\n");
+            refreshCoverage();
+            updateRegisters();
+        });
+
+        Button listingButton = new Button("Listeyi Kaydet");
+        listingButton.setOnAction(e -> saveListing());
+
+        Button openButton = new Button("Dosya Aç");
+        openButton.setOnAction(e -> openSource());
+
+        Button exportButton = new Button("Dışa Aktar");
+        exportButton.setOnAction(e -> exportImage());
+
+        Button ramButton = new Button("RAM Yükle");
+        ramButton.setOnAction(e -> loadRamImage());
+
+        Button ramDumpButton = new Button("RAM Dökümü");
+        ramDumpButton.setOnAction(e -> saveRamDump());
+
+        Button coverageButton = new Button("Kapsam Raporu");
+        coverageButton.setOnAction(e -> saveCoverageReport());
+
+        HBox buttonBox = new HBox(10, openButton, translateButton, reloadButton, simulateButton, runAllButton,
+                resetButton, listingButton, exportButton, ramButton, ramDumpButton, coverageButton);
+        buttonBox.setPadding(new Insets(10));
+
+        translationTable = new TableView<>();
+        TableColumn<TranslationRow, String> colLine = new TableColumn<>("Satır");
+        colLine.setCellFactory(c -> storeCell(i -> Integer.toString(i + 1)));
+        TableColumn<TranslationRow, String> colAsm = new TableColumn<>("Assembly");
+        colAsm.setCellFactory(c -> storeCell(translationStore::getAssemblyCode));
+        TableColumn<TranslationRow, String> colObj = new TableColumn<>("Makine Kodu");
+        colObj.setCellFactory(c -> storeCell(translationStore::getObjectCode));
+        translationTable.getColumns().addAll(colLine, colAsm, colObj);
+        translationTable.setItems(tableData);
+        translationTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+
+        translationTable.setRowFactory(tv -> {
+            TableRow<TranslationRow> row = new TableRow<>() {
+                @Override
+                protected void updateItem(TranslationRow item, boolean empty) {
+                    super.updateItem(item, empty);
+                    if (item == null || empty) {
+                        setStyle("");
+                    } else if (item.isError()) {
+                        setStyle("-fx-background-color: #ffcccc;");
+                    } else if (item.getCoverage() == CoverageReport.LINE_EXECUTED) {
+                        setStyle("-fx-background-color: #ddffdd;");
+                    } else if (item.getCoverage() == CoverageReport.LINE_PARTIAL_BRANCH) {
+                        setStyle("-fx-background-color: #fff3c4;");
+                    } else {
+                        setStyle("");
+                    }
+                }
+            };
+
+            row.setOnMouseClicked(event -> {
+                TranslationRow item = row.getItem();
+                if (item != null && item.isError()) {
+                    Alert alert = new Alert(Alert.AlertType.ERROR);
+                    alert.setTitle("Hata Detayı");
+                    alert.setHeaderText("Satır " + item.getLineNumber());
+                    alert.setContentText(item.getObjectCode());
+                    alert.showAndWait();
+                }
+            });
+
+            return row;
+        });
+
+        aReg = new Label("A: 0");
+        bReg = new Label("B: 0");
+        pcReg = new Label("PC: $C000");
+
+        simLog = new TextArea();
+        simLog.setEditable(false);
+        simLog.setPrefHeight(150);
+        simLog.setFont(Font.font("Courier New", 12));
+
+        VBox simPanel = new VBox(5, aReg, bReg, pcReg, new Label("Simülasyon Log:"), simLog);
+        simPanel.setPadding(new Insets(10));
+
+        VBox outputBox = new VBox(5,
+                new Label("Makine Kodu Çıktısı:"), machineOutput,
+                new Label("Satır-Satır Dönüşüm Tablosu:"), translationTable,
+                buttonBox,
+                simPanel
+        );
+        outputBox.setPadding(new Insets(10));
+
+        this.setLeft(assemblyInput);
+        this.setCenter(outputBox);
+        this.setPadding(new Insets(10));
+    }
+
+    private void translateCode() {
+        List<String> lines = readSource();
+        loadedImage = showTranslation(lines, assemble(lines));
+        coverage = new CoverageRecorder();
+        simulator.setCoverage(coverage);
+        simulator.load(objectCode, sourceMap);
+        simLog.clear();
+        simLog.appendText("Simülasyon başlatıldı.\n");
+        simLog.appendText(generator.getLayoutReport() + "\n");
+        refreshCoverage();
+        updateRegisters();
+    }
+
+    // Düzenlenen kaynağı çevirip yalnızca değişen baytları çalışan simülatöre yazar;
+    // kayıtlar, PC ve programın dışındaki RAM olduğu gibi kalır
+    private void liveReload() {
+        if (loadedImage == null) {
+            simLog.appendText("Önce kodu çeviriniz.\n");
+            return;
+        }
+
+        List<String> lines = readSource();
+        CodeGenerator next = assemble(lines);
+        long errors = next.getOutputLines().stream().filter(line -> line.startsWith("HATA")).count();
+        if (errors > 0) {
+            simLog.appendText("Canlı yükleme iptal edildi: " + errors + " hatalı satır, çalışan program değişmedi.\n");
+            return;
+        }
+
+        ObjectImage image = showTranslation(lines, next);
+        int written = simulator.patchProgram(loadedImage, image, sourceMap);
+        loadedImage = image;
+        simLog.appendText("Canlı yükleme: " + written + " bayt yamalandı, kayıtlar ve RAM korundu.\n");
+
+        int index = sourceMap.indexOf(simulator.getPC());
+        if (index >= 0 && sourceMap.getAddress(index) != simulator.getPC()) {
+            simLog.appendText(String.format("UYARI: PC $%04X artık bir komutun ortasında.%n", simulator.getPC()));
+        }
+        refreshCoverage();
+        updateRegisters();
+    }
+
+    private List<String> readSource() {
+        if (largeSource != null) return largeSource;
+        return new ArrayList<>(Arrays.asList(assemblyInput.getText().split("\n")));
+    }
+
+    private CodeGenerator assemble(List<String> lines) {
+        CodeGenerator translated = new CodeGenerator(lines);
+        translated.firstPass();
+        translated.secondPass();
+        return translated;
+    }
+
+    // Çeviri sonucunu görünüme yansıtır; simülatöre dokunmaz
+    private ObjectImage showTranslation(List<String> lines, CodeGenerator translated) {
+        sourceLines = lines;
+        generator = translated;
+        outputLines = generator.getOutputLines();
+        sourceMap = generator.getSourceMap();
+
+        StringBuilder rawOutput = new StringBuilder();
+        for (String obj : outputLines) {
+            rawOutput.append(obj).append("\n");
+        }
+        updateTranslationTable();
+
+        ObjectImage image = generator.buildObjectImage();
+        machineOutput.setText(hexDump.format(image.getBytes(), image.getBaseAddress()));
+        objectCode = rawOutput.toString();
+        return image;
+    }
+
+    // Satır nesneleri yeniden kullanılır; liste yalnızca boyut değiştiğinde sondan büyür ya da küçülür
+    private void updateTranslationTable() {
+        translationStore.update(sourceLines, outputLines);
+
+        int size = translationStore.size();
+        if (tableData.size() > size) {
+            tableData.remove(size, tableData.size());
+        } else if (tableData.size() < size) {
+            List<TranslationRow> added = new ArrayList<>(size - tableData.size());
+            for (int i = tableData.size(); i < size; i++) {
+                added.add(translationStore.row(i));
+            }
+            tableData.addAll(added);
+        }
+        translationTable.refresh();
+    }
+
+    // Hücreler değer tutmaz; görünür olduklarında satır indeksiyle depodan okunur
+    private TableCell<TranslationRow, String> storeCell(IntFunction<String> column) {
+        return new TableCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                int index = getIndex();
+                setText(empty || index < 0 || index >= translationStore.size() ? null : column.apply(index));
+            }
+        };
+    }
+
+    private void saveListing() {
+        if (sourceMap == null) {
+            simLog.appendText("Önce kodu çeviriniz.\n");
+            return;
+        }
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Liste Dosyasını Kaydet");
+        chooser.setInitialFileName("program.lst");
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            new ListingWriter(sourceLines, outputLines, sourceMap).write(file.toPath());
+            simLog.appendText("Liste kaydedildi: " + file.getName() + "\n");
+        } catch (IOException ex) {
+            showError("Liste dosyası yazılamadı", ex.getMessage());
+        }
+    }
+
+    private void openSource() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Assembly Dosyası Aç");
+        File file = chooser.showOpenDialog(getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            Path path = file.toPath();
+            sourceName = file.getName();
+            if (Files.size(path) > LARGE_SOURCE_BYTES) {
+                largeSource = MappedSource.open(path);
+                ListView<String> view = new ListView<>(FXCollections.observableList(largeSource));
+                view.setEditable(false);
+                this.setLeft(view);
+                simLog.appendText("Büyük dosya salt okunur açıldı: " + file.getName()
+                        + " (" + largeSource.size() + " satır)\n");
+            } else {
+                largeSource = null;
+                assemblyInput.setText(Files.readString(path));
+                this.setLeft(assemblyInput);
+            }
+        } catch (IOException ex) {
+            showError("Dosya açılamadı", ex.getMessage());
+        }
+    }
+
+    private void exportImage() {
+        if (generator == null) {
+            simLog.appendText("Önce kodu çeviriniz.\n");
+            return;
+        }
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Makine Kodunu Dışa Aktar");
+        chooser.setInitialFileName("program.bin");
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            generator.buildObjectImage().writeTo(file.toPath());
+            simLog.appendText("Makine kodu kaydedildi: " + file.getName() + "\n");
+        } catch (IOException ex) {
+            showError("Dosya yazılamadı", ex.getMessage());
+        }
+    }
+
+    private void loadRamImage() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("RAM Görüntüsü Yükle");
+        File file = chooser.showOpenDialog(getScene().getWindow());
+        if (file == null) return;
+
+        try {
+            int loaded = simulator.loadMemoryImage(file.toPath(), 0x0000);
+            simLog.appendText("RAM görüntüsü yüklendi: " + loaded + " bayt\n");
+        } catch (IOException ex) {
+            showError("RAM görüntüsü yüklenemedi", ex.getMessage());
+        }
+    }
+
+    private void saveRamDump() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("RAM Dökümünü Kaydet");
+        chooser.setInitialFileName("ram.txt");
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) return;
+
+        try (Writer out = Files.newBufferedWriter(file.toPath())) {
+            simulator.dumpMemory(0x0000, 0x10000, out);
+            simLog.appendText("RAM dökümü kaydedildi: " + file.getName() + "\n");
+        } catch (IOException ex) {
+            showError("RAM dökümü yazılamadı", ex.getMessage());
+        }
+    }
+
+    private void saveCoverageReport() {
+        if (sourceMap == null) {
+            simLog.appendText("Önce kodu çeviriniz.\n");
+            return;
+        }
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Kapsam Raporunu Kaydet");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("LCOV", "*.info"),
+                new FileChooser.ExtensionFilter("Cobertura XML", "*.xml"));
+        chooser.setInitialFileName("coverage.info");
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) return;
+
+        CoverageReport report = new CoverageReport(coverage, sourceMap, outputLines);
+        try (Writer out = Files.newBufferedWriter(file.toPath())) {
+            if (file.getName().toLowerCase().endsWith(".xml")) {
+                report.writeCobertura(out, sourceName);
+            } else {
+                report.writeLcov(out, sourceName);
+            }
+            simLog.appendText("Kapsam raporu kaydedildi: " + file.getName() + "\n");
+        } catch (IOException ex) {
+            showError("Kapsam raporu yazılamadı", ex.getMessage());
+        }
+    }
+
+    private void showError(String header, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Hata");
+        alert.setHeaderText(header);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
+    private void simulateStep() {
+        if (!simulator.hasNextStep()) {
+            simLog.appendText("Simülasyon tamamlandı.\n");
+            return;
+        }
+
+        int pcBefore = simulator.getPC();
+        String log = simulator.step();
+        simLog.appendText(log + "\n");
+
+        refreshCoverageAt(pcBefore);
+        updateRegisters();
+    }
+
+    private void runAllSteps() {
+        while (simulator.hasNextStep()) {
+            String log = simulator.step();
+            simLog.appendText(log + "\n");
+        }
+
+        refreshCoverage();
+        updateRegisters();
+    }
+
+    private void updateRegisters() {
+        long started = System.nanoTime();
+        aReg.setText("A: " + simulator.getA());
+        bReg.setText("B: " + simulator.getB());
+        pcReg.setText("PC: $" + String.format("%04X", simulator.getPC()));
+
+        // Çalışılan satırı kaynak haritası üzerinden tabloda işaretle
+        int line = simulator.getCurrentLine();
+        if (line >= 0 && line < tableData.size()) {
+            translationTable.getSelectionModel().select(line);
+            translationTable.scrollTo(line);
+        } else {
+            translationTable.getSelectionModel().clearSelection();
+        }
+
+        metrics.recordPublishLatency(System.nanoTime() - started);
+    }
+
+    // Tüm satırların kapsam durumu; yalnızca program değiştiğinde ya da çalıştırma durduğunda
+    private void refreshCoverage() {
+        if (sourceMap == null) return;
+        coverageReport = new CoverageReport(coverage, sourceMap, outputLines);
+        translationStore.setCoverage(coverageReport.lineStates(translationStore.size()));
+        translationTable.refresh();
+    }
+
+    // Tek adımdan sonra yalnızca yürütülen komutun satırı değişebilir
+    private void refreshCoverageAt(int address) {
+        if (coverageReport == null) return;
+        int entry = sourceMap.indexOf(address);
+        if (entry < 0 || sourceMap.getLine(entry) >= translationStore.size()) return;
+        translationStore.setCoverage(sourceMap.getLine(entry), coverageReport.entryState(entry));
+        translationTable.refresh();
+    }
+
+}
@@ -0,0 +1,36 @@
+package model;
+
+// Sütun deposundaki tek bir satıra hafif görünüm; kendi verisini tutmaz
+public class TranslationRow {
+    private final TranslationTable table;
+    private final int index;
+
+    TranslationRow(TranslationTable table, int index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getLineNumber() {
+        return Integer.toString(index + 1);
+    }
+
+    public String getAssemblyCode() {
+        return table.getAssemblyCode(index);
+    }
+
+    public String getObjectCode() {
+        return table.getObjectCode(index);
+    }
+
+    public boolean isError() {
+        return table.isError(index);
+    }
+
+    public byte getCoverage() {
+        return table.getCoverage(index);
+    }
+}
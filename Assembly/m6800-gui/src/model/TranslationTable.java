@@ -0,0 +1,73 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Dönüşüm tablosunun deposu. Kaynak ve çıktı listeleri kopyalanmadan tutulur; hücre metni
+// yalnızca satır görünür olduğunda okunup kırpılır. Satır nesneleri (TranslationRow) yalnızca
+// bir indeks taşır ve çeviriler arasında yeniden kullanılır.
+public class TranslationTable {
+
+    private List<String> sourceLines = List.of();
+    private List<String> outputLines = List.of();
+    private byte[] coverage = new byte[0];
+    private TranslationRow[] rows = new TranslationRow[0];
+    private int size = 0;
+
+    // Listeleri yerinde bağlar; büyük (eşlenmiş) kaynaklar burada baştan sona okunmaz.
+    // Kapsam durumları setCoverage ile yeniden yazılana kadar eski çeviriye aittir.
+    public void update(List<String> sourceLines, List<String> outputLines) {
+        this.sourceLines = sourceLines;
+        this.outputLines = outputLines;
+        size = outputLines.size();
+        ensureCapacity(size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= rows.length) return;
+
+        int newCapacity = Math.max(capacity, rows.length * 2);
+        coverage = Arrays.copyOf(coverage, newCapacity);
+        rows = Arrays.copyOf(rows, newCapacity);
+    }
+
+    public TranslationRow row(int index) {
+        TranslationRow row = rows[index];
+        if (row == null) {
+            row = new TranslationRow(this, index);
+            rows[index] = row;
+        }
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getAssemblyCode(int index) {
+        return index < sourceLines.size() ? sourceLines.get(index).trim() : "";
+    }
+
+    public String getObjectCode(int index) {
+        return outputLines.get(index);
+    }
+
+    public boolean isError(int index) {
+        return outputLines.get(index).contains("HATA");
+    }
+
+    // Satır başına kapsam durumu; değerler simülatörün kapsam raporundan gelir
+    public void setCoverage(byte[] states) {
+        int length = Math.min(states.length, size);
+        System.arraycopy(states, 0, coverage, 0, length);
+        Arrays.fill(coverage, length, size, (byte) 0);
+    }
+
+    public void setCoverage(int index, byte state) {
+        coverage[index] = state;
+    }
+
+    public byte getCoverage(int index) {
+        return coverage[index];
+    }
+}
@@ -0,0 +1,9 @@
+// JavaFX arayüzü
+// -Xlint:module, "m6800" adındaki sondaki rakamlar için uyarır; ad bilerek korunuyor
+@SuppressWarnings("module")
+module m6800.gui {
+    requires m6800.core;
+    requires javafx.controls;
+
+    exports gui to javafx.graphics;
+}
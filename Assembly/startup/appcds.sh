@@ -0,0 +1,31 @@
+#!/bin/sh
+# Başsız (CLI) yol için AppCDS arşivi üretir.
+# CDS sınıfları yalnızca JAR'dan arşivleyebildiği için modül çıktıları önce paketlenir.
+#
+# Kullanım: startup/appcds.sh            (Assembly dizininden)
+# Ortam:    OUT   IntelliJ derleme çıktısı (varsayılan out/production)
+#           BUILD jar ve arşivin yazılacağı dizin (varsayılan build)
+set -e
+
+OUT=${OUT:-out/production}
+BUILD=${BUILD:-build}
+HERE=$(dirname "$0")
+
+mkdir -p "$BUILD"
+jar --create --file "$BUILD/m6800-core.jar" -C "$OUT/m6800-core" .
+jar --create --file "$BUILD/m6800-cli.jar" --main-class cli.Main -C "$OUT/m6800-cli" .
+
+MODULES="$BUILD/m6800-core.jar:$BUILD/m6800-cli.jar"
+
+# Eğitim çalıştırmaları: çevirme/liste/imaj ve simülasyon yollarında yüklenen sınıflar toplanır
+java -XX:DumpLoadedClassList="$BUILD/assemble.classlist" -p "$MODULES" -m m6800.cli/cli.Main \
+    assemble "$HERE/training.asm" -o "$BUILD/training.bin" -l "$BUILD/training.lst" > /dev/null
+java -XX:DumpLoadedClassList="$BUILD/run.classlist" -p "$MODULES" -m m6800.cli/cli.Main \
+    run "$HERE/training.asm" 100000 > /dev/null
+cat "$BUILD/assemble.classlist" "$BUILD/run.classlist" | sort -u > "$BUILD/m6800.classlist"
+
+java -Xshare:dump -XX:SharedClassListFile="$BUILD/m6800.classlist" -XX:SharedArchiveFile="$BUILD/m6800.jsa" \
+    -p "$MODULES" --add-modules m6800.cli > /dev/null
+
+echo "Arşiv: $BUILD/m6800.jsa"
+echo "Çalıştırma: java -XX:SharedArchiveFile=$BUILD/m6800.jsa -Xshare:auto -p $MODULES -m m6800.cli/cli.Main ..."
@@ -0,0 +1,57 @@
+#!/bin/sh
+# Başsız yolun açılış süresini arşivli ve arşivsiz ölçer, geçmişe ekler ve taban değerle karşılaştırır.
+# Arşivli ortanca taban değerden SINIR yüzdesinden fazla yavaşsa 1 ile çıkar; taban dosyası yoksa oluşturulur.
+#
+# Kullanım: startup/startup-bench.sh      (Assembly dizininden, appcds.sh çalıştırıldıktan sonra)
+# Ortam:    BUILD    appcds.sh çıktı dizini (varsayılan build)
+#           RUNS     ölçüm sayısı (varsayılan 15)
+#           SINIR    izin verilen gerileme yüzdesi (varsayılan 25)
+#           TABAN    taban değer dosyası (varsayılan build/startup-baseline.ms)
+set -e
+
+BUILD=${BUILD:-build}
+RUNS=${RUNS:-15}
+SINIR=${SINIR:-25}
+HERE=$(dirname "$0")
+TABAN=${TABAN:-$BUILD/startup-baseline.ms}
+MODULES="$BUILD/m6800-core.jar:$BUILD/m6800-cli.jar"
+
+if [ ! -f "$BUILD/m6800.jsa" ]; then
+    echo "Arşiv bulunamadı: $BUILD/m6800.jsa (önce startup/appcds.sh)" >&2
+    exit 2
+fi
+
+# Verilen JVM seçenekleriyle RUNS kez çalıştırır, ortanca süreyi milisaniye olarak yazar
+measure() {
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        start=$(date +%s%N)
+        java "$@" -p "$MODULES" -m m6800.cli/cli.Main run "$HERE/training.asm" 1000 > /dev/null
+        end=$(date +%s%N)
+        echo $(( (end - start) / 1000000 ))
+        i=$((i + 1))
+    done | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+cold=$(measure -Xshare:auto)
+warm=$(measure -XX:SharedArchiveFile="$BUILD/m6800.jsa" -Xshare:on)
+
+echo "Arşivsiz: $cold ms | Arşivli: $warm ms"
+if [ ! -f "$BUILD/startup-history.csv" ]; then
+    echo "tarih,arsivsiz_ms,arsivli_ms" > "$BUILD/startup-history.csv"
+fi
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$cold,$warm" >> "$BUILD/startup-history.csv"
+
+if [ ! -f "$TABAN" ]; then
+    echo "$warm" > "$TABAN"
+    echo "Taban değer yazıldı: $TABAN ($warm ms)"
+    exit 0
+fi
+
+base=$(cat "$TABAN")
+limit=$(( base + base * SINIR / 100 ))
+if [ "$warm" -gt "$limit" ]; then
+    echo "GERİLEME: arşivli açılış $warm ms, taban $base ms (sınır $limit ms)" >&2
+    exit 1
+fi
+echo "Taban $base ms, sınır $limit ms: geçti"
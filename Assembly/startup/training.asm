@@ -0,0 +1,18 @@
+        ORG $C000
+        LDX #64
+        LDAA #$05
+        LDAB #$03
+LOOP    INCA
+        STAA $40
+        ADDA $41
+        STAA 0,X
+        INX
+        TAB
+        ASLA
+        BMI SKIP
+        LSRA
+SKIP    CBA
+        BNE LOOP
+        JSR DONE
+        JMP LOOP
+DONE    RTS